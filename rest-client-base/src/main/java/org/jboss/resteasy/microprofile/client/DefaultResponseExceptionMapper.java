@@ -49,8 +49,22 @@ public class DefaultResponseExceptionMapper implements ResponseExceptionMapper {
     private final boolean originalBehavior;
     private final boolean unwrappedExceptions;
     private final boolean serverSide;
+    private final boolean stacklessExceptions;
 
     public DefaultResponseExceptionMapper() {
+        this(false);
+    }
+
+    /**
+     * Creates a new default mapper.
+     *
+     * @param stacklessExceptions {@code true} if the {@link WebApplicationException} created for a response should not
+     *                                capture a stack trace. Note that when the exceptions are not
+     *                                {@linkplain ResteasyContextParameters#RESTEASY_UNWRAPPED_EXCEPTIONS unwrapped}, the
+     *                                wrapper created by RESTEasy still captures its stack trace.
+     */
+    public DefaultResponseExceptionMapper(final boolean stacklessExceptions) {
+        this.stacklessExceptions = stacklessExceptions;
         final Config config = ConfigProvider.getConfig();
         originalBehavior = config
                 .getOptionalValue(ResteasyContextParameters.RESTEASY_ORIGINAL_WEBAPPLICATIONEXCEPTION_BEHAVIOR, boolean.class)
@@ -112,6 +126,60 @@ public class DefaultResponseExceptionMapper implements ResponseExceptionMapper {
         return WebApplicationException::new;
     }
 
+    private static Function<Response, ServerErrorException> stacklessServerExceptionConstructor(int status) {
+        switch (status) {
+            case 500:
+                return StacklessInternalServerErrorException::new;
+            case 503:
+                return StacklessServiceUnavailableException::new;
+            default:
+                return StacklessServerErrorException::new;
+        }
+    }
+
+    private static Function<Response, ClientErrorException> stacklessClientExceptionConstructor(int status) {
+        switch (status) {
+            case 400:
+                return StacklessBadRequestException::new;
+            case 401:
+                return StacklessNotAuthorizedException::new;
+            case 403:
+                return StacklessForbiddenException::new;
+            case 404:
+                return StacklessNotFoundException::new;
+            case 405:
+                return StacklessNotAllowedException::new;
+            case 406:
+                return StacklessNotAcceptableException::new;
+            case 415:
+                return StacklessNotSupportedException::new;
+            default:
+                return StacklessClientErrorException::new;
+        }
+    }
+
+    /**
+     * Creates the same exception types as {@link #webApplicationException(int)}, but without filling in the stack
+     * trace. The exceptions are subclasses of the standard types, so {@link Object#getClass()} returns the subclass,
+     * for example {@code DefaultResponseExceptionMapper$StacklessNotFoundException} for a {@link NotFoundException}.
+     */
+    private static Function<Response, ? extends WebApplicationException> stacklessWebApplicationException(
+            int status) {
+
+        if (status < 600) {
+            if (status >= 500) {
+                return stacklessServerExceptionConstructor(status);
+            }
+            if (status >= 400) {
+                return stacklessClientExceptionConstructor(status);
+            }
+            if (status >= 300) {
+                return StacklessRedirectionException::new;
+            }
+        }
+        return StacklessWebApplicationException::new;
+    }
+
     @Override
     public Throwable toThrowable(Response response) {
         try {
@@ -119,7 +187,8 @@ public class DefaultResponseExceptionMapper implements ResponseExceptionMapper {
         } catch (Exception ignored) {
         }
 
-        WebApplicationException unwrapped = webApplicationException(response.getStatus()).apply(response);
+        WebApplicationException unwrapped = (stacklessExceptions ? stacklessWebApplicationException(response.getStatus())
+                : webApplicationException(response.getStatus())).apply(response);
         return unwrappedExceptions ? unwrapped : WebApplicationExceptionWrapper.wrap(unwrapped);
     }
 
@@ -132,4 +201,162 @@ public class DefaultResponseExceptionMapper implements ResponseExceptionMapper {
     public int getPriority() {
         return Integer.MAX_VALUE;
     }
+
+    // The exceptions created for the stacklessExceptions option, which do not fill in their stack trace
+
+    @SuppressWarnings("serial")
+    private static class StacklessWebApplicationException extends WebApplicationException {
+        StacklessWebApplicationException(final Response response) {
+            super(response);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static class StacklessRedirectionException extends RedirectionException {
+        StacklessRedirectionException(final Response response) {
+            super(response);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static class StacklessClientErrorException extends ClientErrorException {
+        StacklessClientErrorException(final Response response) {
+            super(response);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static class StacklessBadRequestException extends BadRequestException {
+        StacklessBadRequestException(final Response response) {
+            super(response);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static class StacklessNotAuthorizedException extends NotAuthorizedException {
+        StacklessNotAuthorizedException(final Response response) {
+            super(response);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static class StacklessForbiddenException extends ForbiddenException {
+        StacklessForbiddenException(final Response response) {
+            super(response);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static class StacklessNotFoundException extends NotFoundException {
+        StacklessNotFoundException(final Response response) {
+            super(response);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static class StacklessNotAllowedException extends NotAllowedException {
+        StacklessNotAllowedException(final Response response) {
+            super(response);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static class StacklessNotAcceptableException extends NotAcceptableException {
+        StacklessNotAcceptableException(final Response response) {
+            super(response);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static class StacklessNotSupportedException extends NotSupportedException {
+        StacklessNotSupportedException(final Response response) {
+            super(response);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static class StacklessServerErrorException extends ServerErrorException {
+        StacklessServerErrorException(final Response response) {
+            super(response);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static class StacklessInternalServerErrorException extends InternalServerErrorException {
+        StacklessInternalServerErrorException(final Response response) {
+            super(response);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static class StacklessServiceUnavailableException extends ServiceUnavailableException {
+        StacklessServiceUnavailableException(final Response response) {
+            super(response);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
 }
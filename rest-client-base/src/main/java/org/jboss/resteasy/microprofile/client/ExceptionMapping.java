@@ -28,12 +28,14 @@ import jakarta.ws.rs.client.ClientRequestContext;
 import jakarta.ws.rs.client.ClientResponseContext;
 import jakarta.ws.rs.client.ClientResponseFilter;
 import jakarta.ws.rs.client.ResponseProcessingException;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
 
 import org.eclipse.microprofile.rest.client.ext.ResponseExceptionMapper;
 import org.jboss.logging.Logger;
 import org.jboss.resteasy.client.jaxrs.internal.ClientResponse;
 import org.jboss.resteasy.client.jaxrs.internal.ClientResponseContextImpl;
+import org.jboss.resteasy.microprofile.client.limit.RateLimiter;
 
 /**
  * This implementation is a bit of a hack and dependent on Resteasy internals.
@@ -76,12 +78,56 @@ public class ExceptionMapping implements ClientResponseFilter {
         }
     }
 
+    /**
+     * A {@link HandlerException} which does not fill in its stack trace. The exception is only used for control flow
+     * and never seen by the user.
+     */
+    static class StacklessHandlerException extends HandlerException {
+
+        StacklessHandlerException(final ClientResponseContext context, final List<ResponseExceptionMapper> candidates) {
+            super(context, candidates);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
     public ExceptionMapping(final Set<Object> instances) {
+        this(instances, false);
+    }
+
+    /**
+     * Creates a new exception mapping filter.
+     *
+     * @param instances           the provider instances of the client
+     * @param stacklessExceptions {@code true} if the exception used to signal a mapped response should not capture
+     *                                a stack trace
+     */
+    public ExceptionMapping(final Set<Object> instances, final boolean stacklessExceptions) {
+        this(instances, stacklessExceptions, null);
+    }
+
+    /**
+     * Creates a new exception mapping filter.
+     *
+     * @param instances           the provider instances of the client
+     * @param stacklessExceptions {@code true} if the exception used to signal a mapped response should not capture
+     *                                a stack trace
+     * @param rateLimiter         the rate limiter adapted to the responses or {@code null}
+     */
+    public ExceptionMapping(final Set<Object> instances, final boolean stacklessExceptions, final RateLimiter rateLimiter) {
         this.instances = instances;
+        this.stacklessExceptions = stacklessExceptions;
+        this.rateLimiter = rateLimiter;
     }
 
     @Override
     public void filter(ClientRequestContext requestContext, ClientResponseContext responseContext) {
+        if (rateLimiter != null) {
+            rateLimiter.onResponse(responseContext.getStatus(), responseContext.getHeaderString(HttpHeaders.RETRY_AFTER));
+        }
 
         Response response = new PartialResponse(responseContext);
 
@@ -110,8 +156,11 @@ public class ExceptionMapping implements ClientResponseFilter {
 
         candidates.sort(
                 (m1, m2) -> Integer.compare(m1.getPriority(), m2.getPriority()));
-        throw new HandlerException(responseContext, candidates);
+        throw stacklessExceptions ? new StacklessHandlerException(responseContext, candidates)
+                : new HandlerException(responseContext, candidates);
     }
 
     private final Set<Object> instances;
+    private final boolean stacklessExceptions;
+    private final RateLimiter rateLimiter;
 }
@@ -32,50 +32,47 @@ import jakarta.enterprise.inject.spi.Interceptor;
 import jakarta.interceptor.InvocationContext;
 import jakarta.ws.rs.client.ResponseProcessingException;
 
+/**
+ * The {@link InvocationContext} passed to the interceptors of a client method.
+ * <p>
+ * The state of the invocation, i.e. the parameters and the context data, is shared by all interceptors of the chain.
+ * Each position in the chain only adds a small view of the shared state. The position is not moved forward on a single
+ * mutable instance as interceptors, like the Fault Tolerance ones, may invoke {@link #proceed()} more than once or from
+ * another thread.
+ * </p>
+ */
 public class InvocationContextImpl implements InvocationContext {
 
-    private final Object target;
-
-    private final Method method;
-
-    private Object[] args;
+    private final Invocation invocation;
 
     private final int position;
 
-    private final Map<String, Object> contextData;
-
-    private final List<InterceptorInvocation> chain;
-
     public InvocationContextImpl(final Object target, final Method method, final Object[] args,
             final List<InterceptorInvocation> chain) {
-        this(target, method, args, chain, 0);
+        this(new Invocation(target, method, args, chain), 0);
     }
 
-    private InvocationContextImpl(final Object target, final Method method, final Object[] args,
-            final List<InterceptorInvocation> chain, final int position) {
-        this.target = target;
-        this.method = method;
-        this.args = args;
-        this.contextData = new HashMap<>();
+    private InvocationContextImpl(final Invocation invocation, final int position) {
+        this.invocation = invocation;
         this.position = position;
-        this.chain = chain;
     }
 
     boolean hasNextInterceptor() {
-        return position < chain.size();
+        return position < invocation.chain.size();
     }
 
     protected Object invokeNext() throws Exception {
-        return chain.get(position).invoke(nextContext());
+        return invocation.chain.get(position).invoke(nextContext());
     }
 
     private InvocationContext nextContext() {
-        return new InvocationContextImpl(target, method, args, chain, position + 1);
+        return new InvocationContextImpl(invocation, position + 1);
     }
 
     protected Object interceptorChainCompleted() throws Exception {
+        final Method method = invocation.method;
         try {
-            return method.invoke(target, args);
+            return method.invoke(invocation.target, invocation.args);
         } catch (InvocationTargetException e) {
             Throwable cause = e.getCause();
             if (cause instanceof CompletionException) {
@@ -120,12 +117,12 @@ public class InvocationContextImpl implements InvocationContext {
 
     @Override
     public Object getTarget() {
-        return target;
+        return invocation.target;
     }
 
     @Override
     public Method getMethod() {
-        return method;
+        return invocation.method;
     }
 
     @Override
@@ -135,17 +132,17 @@ public class InvocationContextImpl implements InvocationContext {
 
     @Override
     public Object[] getParameters() throws IllegalStateException {
-        return args;
+        return invocation.args;
     }
 
     @Override
     public void setParameters(Object[] params) throws IllegalStateException, IllegalArgumentException {
-        this.args = params;
+        invocation.args = params;
     }
 
     @Override
     public Map<String, Object> getContextData() {
-        return contextData;
+        return invocation.getContextData();
     }
 
     @Override
@@ -153,6 +150,39 @@ public class InvocationContextImpl implements InvocationContext {
         return null;
     }
 
+    /**
+     * The state of an invocation shared by all positions of the interceptor chain.
+     */
+    private static final class Invocation {
+        private final Object target;
+        private final Method method;
+        private final List<InterceptorInvocation> chain;
+        private volatile Object[] args;
+        private volatile Map<String, Object> contextData;
+
+        private Invocation(final Object target, final Method method, final Object[] args,
+                final List<InterceptorInvocation> chain) {
+            this.target = target;
+            this.method = method;
+            this.args = args;
+            this.chain = chain;
+        }
+
+        Map<String, Object> getContextData() {
+            // Most invocations never access the context data, only create it when required
+            Map<String, Object> result = contextData;
+            if (result == null) {
+                synchronized (this) {
+                    result = contextData;
+                    if (result == null) {
+                        contextData = result = new HashMap<>();
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
     public static class InterceptorInvocation {
 
         @SuppressWarnings("rawtypes")
@@ -0,0 +1,464 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.ParamConverter;
+import jakarta.ws.rs.ext.ParamConverterProvider;
+
+import org.eclipse.microprofile.rest.client.RestClientDefinitionException;
+import org.jboss.resteasy.microprofile.client.batch.Batched;
+import org.jboss.resteasy.microprofile.client.limit.RequestPriority;
+import org.reactivestreams.Publisher;
+
+/**
+ * The precomputed description of how a method of a client interface is invoked by the {@link ProxyInvocationHandler}.
+ * <p>
+ * A plan is created the first time a method is invoked on a proxy and is immutable afterwards. It captures everything
+ * which only depends on the method and the providers of the client, so the steady-state call path does not need to use
+ * reflection.
+ * </p>
+ */
+final class InvocationPlan {
+    /**
+     * Describes how the {@link ProxyInvocationHandler} dispatches the invocation.
+     */
+    enum Dispatch {
+        /**
+         * The method is declared on {@link RestClientProxy}.
+         */
+        REST_CLIENT_PROXY,
+        /**
+         * The method is {@link AutoCloseable#close()} or a {@code close()} method with the same signature.
+         */
+        CLOSE,
+        /**
+         * The method is invoked on the underlying RESTEasy client proxy.
+         */
+        CLIENT,
+    }
+
+    private final Method method;
+    private final Dispatch dispatch;
+    private final boolean subResource;
+    private final boolean async;
+    private final Integer priority;
+    private final boolean coalescible;
+    private final Batched batched;
+    private final Method batchMethod;
+    private final ArgumentConverter[] converters;
+    private final MethodHandle handle;
+
+    private InvocationPlan(final Method method, final Dispatch dispatch, final boolean subResource,
+            final ArgumentConverter[] converters, final MethodHandle handle) {
+        this.method = method;
+        this.dispatch = dispatch;
+        this.subResource = subResource;
+        this.async = CompletionStage.class.isAssignableFrom(method.getReturnType());
+        this.priority = resolvePriority(method);
+        this.coalescible = dispatch == Dispatch.CLIENT && !subResource && isCoalescible(method);
+        this.batchMethod = dispatch == Dispatch.CLIENT ? resolveBatchMethod(method) : null;
+        this.batched = batchMethod == null ? null : method.getAnnotation(Batched.class);
+        this.converters = converters;
+        this.handle = handle;
+    }
+
+    /**
+     * Creates the plan for the method.
+     *
+     * @param method           the method to create the plan for
+     * @param providers        the providers registered on the client
+     * @param useMethodHandles {@code true} if the client should be invoked through a {@link MethodHandle} rather than
+     *                             through {@link Method#invoke(Object, Object...)}
+     *
+     * @return the new plan
+     */
+    static InvocationPlan of(final Method method, final Set<Object> providers, final boolean useMethodHandles) {
+        if (RestClientProxy.class.equals(method.getDeclaringClass())) {
+            return new InvocationPlan(method, Dispatch.REST_CLIENT_PROXY, false, null, null);
+        }
+        // Autocloseable/Closeable
+        if (method.getName().equals("close") && method.getParameterCount() == 0) {
+            return new InvocationPlan(method, Dispatch.CLOSE, false, null, null);
+        }
+        return new InvocationPlan(method, Dispatch.CLIENT, isSubResourceLocator(method), resolveConverters(method, providers),
+                useMethodHandles ? unreflect(method) : null);
+    }
+
+    /**
+     * Resolves the batch method of a {@link Batched} method.
+     *
+     * @param method the client method
+     *
+     * @return the batch method or {@code null} if the method is not annotated
+     *
+     * @throws RestClientDefinitionException if the annotated method or the batch method are invalid
+     */
+    static Method resolveBatchMethod(final Method method) {
+        final Batched batched = method.getAnnotation(Batched.class);
+        if (batched == null) {
+            return null;
+        }
+        if (!CompletionStage.class.equals(method.getReturnType()) || method.getParameterCount() != 1) {
+            throw new RestClientDefinitionException(String.format(
+                    "The batched method %s must return a CompletionStage and have a single parameter", method));
+        }
+        for (Method candidate : method.getDeclaringClass().getMethods()) {
+            if (!candidate.getName().equals(batched.value()) || candidate.getParameterCount() != 1
+                    || !candidate.getParameterTypes()[0].isAssignableFrom(List.class)) {
+                continue;
+            }
+            Type type = candidate.getGenericReturnType();
+            if (CompletionStage.class.equals(getRawType(type)) && type instanceof ParameterizedType) {
+                type = ((ParameterizedType) type).getActualTypeArguments()[0];
+            }
+            final Class<?> rawType = getRawType(type);
+            if (rawType != null && (List.class.isAssignableFrom(rawType) || Map.class.isAssignableFrom(rawType))) {
+                return candidate;
+            }
+        }
+        throw new RestClientDefinitionException(String.format(
+                "No batch method %s with a List parameter returning a List or a Map found for %s", batched.value(),
+                method));
+    }
+
+    /**
+     * The method this plan was created for.
+     *
+     * @return the method
+     */
+    Method method() {
+        return method;
+    }
+
+    /**
+     * How the invocation should be dispatched.
+     *
+     * @return the dispatch type
+     */
+    Dispatch dispatch() {
+        return dispatch;
+    }
+
+    /**
+     * Indicates whether the method is a sub-resource locator, meaning the result needs to be wrapped in a proxy.
+     *
+     * @return {@code true} if the method is a sub-resource locator
+     */
+    boolean isSubResource() {
+        return subResource;
+    }
+
+    /**
+     * Indicates whether the method returns a {@link CompletionStage}, meaning errors are reported through the result.
+     *
+     * @return {@code true} if the method is asynchronous
+     */
+    boolean isAsync() {
+        return async;
+    }
+
+    /**
+     * The {@linkplain RequestPriority priority} of the requests of the method.
+     *
+     * @param defaultPriority the priority used if neither the method nor its interface are annotated
+     *
+     * @return the priority
+     */
+    int priority(final int defaultPriority) {
+        return priority == null ? defaultPriority : priority;
+    }
+
+    /**
+     * Indicates whether identical concurrent invocations of the method can share a request, meaning the method uses
+     * {@code GET} and its result is an entity which can be shared.
+     *
+     * @return {@code true} if the method can be coalesced
+     */
+    boolean isCoalescible() {
+        return coalescible;
+    }
+
+    /**
+     * The {@link Batched} annotation of a single item method.
+     *
+     * @return the annotation or {@code null} if the invocations of the method are not batched
+     */
+    Batched batched() {
+        return batched;
+    }
+
+    /**
+     * The batch method of a {@link Batched} single item method.
+     *
+     * @return the batch method or {@code null} if the invocations of the method are not batched
+     */
+    Method batchMethod() {
+        return batchMethod;
+    }
+
+    /**
+     * Applies the resolved {@link ParamConverter parameter converters} to the arguments. The arguments array is
+     * replaced in place as each invocation of a {@link java.lang.reflect.Proxy proxy} gets its own array.
+     * <p>
+     * The converters are resolved once from the declared generic type of each parameter. If no converter applies to
+     * the declared type of a collection or an array, its elements are converted instead. An argument is only replaced
+     * if the declared type of the parameter can hold the converted value, e.g. a {@code String} or an erased
+     * {@code List}. Any other argument is passed as is and the converter is applied when the request is built.
+     * </p>
+     *
+     * @param args the arguments passed to the proxy, may be {@code null}
+     *
+     * @return the arguments to pass to the client
+     */
+    Object[] convertArguments(final Object[] args) {
+        if (converters == null || args == null) {
+            return args;
+        }
+        for (int i = 0; i < converters.length; i++) {
+            final ArgumentConverter converter = converters[i];
+            // ParamConverter's are not allowed to be passed null values. If we have a null value do not process
+            // it through the provider.
+            if (converter != null && args[i] != null) {
+                args[i] = converter.convert(args[i]);
+            }
+        }
+        return args;
+    }
+
+    /**
+     * Invokes the method on the target. Unlike {@link Method#invoke(Object, Object...)} the exception thrown by the
+     * target is not wrapped in an {@link InvocationTargetException}.
+     *
+     * @param target the target to invoke the method on
+     * @param args   the arguments for the method, may be {@code null}
+     *
+     * @return the result of the invocation
+     *
+     * @throws Throwable the exception thrown by the target
+     */
+    Object invoke(final Object target, final Object[] args) throws Throwable {
+        if (handle != null) {
+            return (Object) handle.invokeExact(target, args);
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Indicates whether the method is invoked through a {@link MethodHandle}.
+     *
+     * @return {@code true} if a method handle is used, {@code false} if the method is invoked through reflection
+     */
+    boolean usesMethodHandle() {
+        return handle != null;
+    }
+
+    private static Integer resolvePriority(final Method method) {
+        RequestPriority priority = method.getAnnotation(RequestPriority.class);
+        if (priority == null) {
+            priority = method.getDeclaringClass().getAnnotation(RequestPriority.class);
+        }
+        return priority == null ? null : priority.value();
+    }
+
+    private static boolean isCoalescible(final Method method) {
+        if (!method.isAnnotationPresent(GET.class)) {
+            return false;
+        }
+        Type type = method.getGenericReturnType();
+        if (CompletionStage.class.equals(getRawType(type)) && type instanceof ParameterizedType) {
+            type = ((ParameterizedType) type).getActualTypeArguments()[0];
+        }
+        final Class<?> rawType = getRawType(type);
+        // Streams and responses can only be read once
+        return rawType != null && rawType != void.class && rawType != Void.class
+                && !Response.class.isAssignableFrom(rawType) && !InputStream.class.isAssignableFrom(rawType)
+                && !Reader.class.isAssignableFrom(rawType) && !Publisher.class.isAssignableFrom(rawType);
+    }
+
+    private static MethodHandle unreflect(final Method method) {
+        try {
+            // Adapt the handle to (Object, Object[])Object so it can be invoked exactly with the arguments of the proxy
+            final int parameterCount = method.getParameterCount();
+            return MethodHandles.publicLookup()
+                    .unreflect(method)
+                    .asType(MethodType.genericMethodType(parameterCount + 1))
+                    .asSpreader(Object[].class, parameterCount);
+        } catch (IllegalAccessException e) {
+            // The interface is not accessible, fallback to reflection
+            return null;
+        }
+    }
+
+    private static boolean isSubResourceLocator(final Method method) {
+        // Check if this is a sub-resource. A sub-resource must be an interface.
+        if (!method.getReturnType().isInterface()) {
+            return false;
+        }
+        boolean hasPath = false;
+        boolean hasHttpMethod = false;
+        // Check the annotations. If the method has one of the @HttpMethod annotations, we will just use the
+        // current method. If it only has a @Path, then we need to create a proxy for the return type.
+        for (Annotation annotation : method.getDeclaredAnnotations()) {
+            final Class<?> type = annotation.annotationType();
+            if (type.equals(Path.class)) {
+                hasPath = true;
+            } else if (type.getDeclaredAnnotation(HttpMethod.class) != null) {
+                hasHttpMethod = true;
+            }
+        }
+        return !hasHttpMethod && hasPath;
+    }
+
+    private static ArgumentConverter[] resolveConverters(final Method method, final Set<Object> providers) {
+        if (method.getParameterCount() == 0) {
+            return null;
+        }
+        final Class<?>[] parameterTypes = method.getParameterTypes();
+        final Type[] genericParameterTypes = method.getGenericParameterTypes();
+        final Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+        ArgumentConverter[] result = null;
+        for (int i = 0; i < parameterTypes.length; i++) {
+            // does a parameter converter apply?
+            if (parameterAnnotations[i].length == 0) {
+                continue;
+            }
+            final ArgumentConverter converter = resolveConverter(parameterTypes[i], genericParameterTypes[i],
+                    parameterAnnotations[i], providers);
+            if (converter != null) {
+                if (result == null) {
+                    result = new ArgumentConverter[parameterTypes.length];
+                }
+                result[i] = converter;
+            }
+        }
+        return result;
+    }
+
+    private static ArgumentConverter resolveConverter(final Class<?> rawType, final Type genericType,
+            final Annotation[] annotations, final Set<Object> providers) {
+        // A converter for the declared type, including collections and arrays, takes precedence
+        final ParamConverter<Object> converter = findConverter(rawType, genericType, annotations, providers);
+        if (converter != null) {
+            // The proxy method still declares the original type, a String can only be passed if the type can hold it.
+            // Otherwise the client applies the converter itself.
+            return rawType.isAssignableFrom(String.class) ? converter::toString : null;
+        }
+        // Otherwise, convert each element of a collection or an array
+        if (rawType.isAssignableFrom(ArrayList.class) && genericType instanceof ParameterizedType) {
+            final Type elementType = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+            final Class<?> elementRawType = getRawType(elementType);
+            if (elementRawType == null) {
+                return null;
+            }
+            final ParamConverter<Object> elementConverter = findConverter(elementRawType, elementType, annotations,
+                    providers);
+            if (elementConverter == null) {
+                return null;
+            }
+            return value -> {
+                final Collection<?> values = (Collection<?>) value;
+                final List<Object> converted = new ArrayList<>(values.size());
+                for (Object v : values) {
+                    converted.add(v == null ? null : elementConverter.toString(v));
+                }
+                return converted;
+            };
+        }
+        if (rawType.isArray() && rawType.isAssignableFrom(String[].class)) {
+            final Class<?> componentType = rawType.getComponentType();
+            final Type genericComponentType = genericType instanceof GenericArrayType
+                    ? ((GenericArrayType) genericType).getGenericComponentType()
+                    : componentType;
+            final ParamConverter<Object> elementConverter = findConverter(componentType, genericComponentType,
+                    annotations, providers);
+            if (elementConverter == null) {
+                return null;
+            }
+            return value -> {
+                final Object[] values = (Object[]) value;
+                final String[] converted = new String[values.length];
+                for (int i = 0; i < values.length; i++) {
+                    converted[i] = values[i] == null ? null : elementConverter.toString(values[i]);
+                }
+                return converted;
+            };
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ParamConverter<Object> findConverter(final Class<?> rawType, final Type genericType,
+            final Annotation[] annotations, final Set<Object> providers) {
+        for (Object p : providers) {
+            if (p instanceof ParamConverterProvider) {
+                final ParamConverter<?> converter = ((ParamConverterProvider) p).getConverter(rawType, genericType,
+                        annotations);
+                if (converter != null) {
+                    return (ParamConverter<Object>) converter;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Class<?> getRawType(final Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        }
+        if (type instanceof ParameterizedType) {
+            return getRawType(((ParameterizedType) type).getRawType());
+        }
+        return null;
+    }
+
+    /**
+     * Converts the value of an argument before it's passed to the client.
+     */
+    @FunctionalInterface
+    private interface ArgumentConverter {
+        Object convert(Object value);
+    }
+}
@@ -20,32 +20,48 @@
 package org.jboss.resteasy.microprofile.client;
 
 import java.io.Closeable;
-import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Proxy;
 import java.lang.reflect.Type;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import jakarta.enterprise.inject.spi.BeanManager;
 import jakarta.enterprise.inject.spi.CDI;
-import jakarta.ws.rs.HttpMethod;
-import jakarta.ws.rs.Path;
 import jakarta.ws.rs.ProcessingException;
 import jakarta.ws.rs.client.ResponseProcessingException;
-import jakarta.ws.rs.ext.ParamConverter;
-import jakarta.ws.rs.ext.ParamConverterProvider;
 
 import org.jboss.logging.Logger;
 import org.jboss.resteasy.client.jaxrs.ResteasyClient;
+import org.jboss.resteasy.core.ResteasyContext;
+import org.jboss.resteasy.microprofile.client.deadline.Deadline;
+import org.jboss.resteasy.microprofile.client.deadline.DeadlineExceededException;
 import org.jboss.resteasy.microprofile.client.header.ClientHeaderFillingException;
 import org.jboss.resteasy.microprofile.client.header.ClientHeaderProviders;
+import org.jboss.resteasy.microprofile.client.limit.ConcurrencyLimiter;
+import org.jboss.resteasy.microprofile.client.limit.RateLimiter;
+import org.jboss.resteasy.microprofile.client.limit.RequestRejectedException;
+import org.jboss.resteasy.microprofile.client.limit.RequestScheduler;
 
 public class ProxyInvocationHandler implements InvocationHandler {
 
@@ -60,25 +76,62 @@ public class ProxyInvocationHandler implements InvocationHandler {
 
     private final AtomicBoolean closed;
 
+    private final ConcurrentMap<Method, InvocationPlan> plans;
+
+    private final ConcurrentMap<Method, SubResource> subResources;
+
+    private final boolean useMethodHandles;
+
+    private final ConcurrencyLimiter limiter;
+
+    private final RequestScheduler scheduler;
+
+    private final RateLimiter rateLimiter;
+
+    private final RequestCoalescer coalescer;
+
+    private final List<String> batchingHeaders;
+
+    private final ConcurrentMap<Method, RequestBatcher> batchers;
+
     public ProxyInvocationHandler(final Class<?> restClientInterface,
             final Object target,
             final Set<Object> providerInstances,
             final ResteasyClient client) {
+        this(target, providerInstances, client, new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), false, null, null,
+                null, null, List.of());
+    }
+
+    private ProxyInvocationHandler(final Object target, final Set<Object> providerInstances, final ResteasyClient client,
+            final ConcurrentMap<Method, InvocationPlan> plans, final ConcurrentMap<Method, SubResource> subResources,
+            final boolean useMethodHandles, final ConcurrencyLimiter limiter, final RequestScheduler scheduler,
+            final RateLimiter rateLimiter, final RequestCoalescer coalescer, final List<String> batchingHeaders) {
         this.target = target;
         this.providerInstances = providerInstances;
         this.client = client;
         this.closed = new AtomicBoolean();
+        this.plans = plans;
+        this.subResources = subResources;
+        this.useMethodHandles = useMethodHandles;
+        this.limiter = limiter;
+        this.scheduler = scheduler;
+        this.rateLimiter = rateLimiter;
+        this.coalescer = coalescer;
+        this.batchingHeaders = batchingHeaders;
+        this.batchers = new ConcurrentHashMap<>();
     }
 
     @Override
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-        if (RestClientProxy.class.equals(method.getDeclaringClass())) {
-            return invokeRestClientProxyMethod(method);
-        }
-        // Autocloseable/Closeable
-        if (method.getName().equals("close") && (args == null || args.length == 0)) {
-            close();
-            return null;
+        final InvocationPlan plan = getPlan(method);
+        switch (plan.dispatch()) {
+            case REST_CLIENT_PROXY:
+                return invokeRestClientProxyMethod(method);
+            case CLOSE:
+                close();
+                return null;
+            default:
+                break;
         }
         // Check if this proxy is closed or the client itself is closed. The client may be closed if this proxy was a
         // sub-resource and the resource client itself was closed.
@@ -87,94 +140,119 @@ public class ProxyInvocationHandler implements InvocationHandler {
             throw new IllegalStateException("RestClientProxy is closed");
         }
 
-        boolean replacementNeeded = false;
-        Object[] argsReplacement = args != null ? new Object[args.length] : null;
-        Annotation[][] parameterAnnotations = method.getParameterAnnotations();
-
-        if (args != null) {
-            for (Object p : providerInstances) {
-                if (p instanceof ParamConverterProvider) {
-
-                    int index = 0;
-                    for (Object arg : args) {
-                        // ParamConverter's are not allowed to be passed null values. If we have a null value do not process
-                        // it through the provider.
-                        if (arg == null) {
-                            continue;
-                        }
-
-                        if (parameterAnnotations[index].length > 0) { // does a parameter converter apply?
-                            ParamConverter<?> converter = ((ParamConverterProvider) p).getConverter(arg.getClass(), null,
-                                    parameterAnnotations[index]);
-                            if (converter != null) {
-                                Type[] genericTypes = getGenericTypes(converter.getClass());
-                                if (genericTypes.length == 1) {
-
-                                    // minimum supported types
-                                    switch (genericTypes[0].getTypeName()) {
-                                        case "java.lang.String":
-                                            @SuppressWarnings("unchecked")
-                                            ParamConverter<String> stringConverter = (ParamConverter<String>) converter;
-                                            argsReplacement[index] = stringConverter.toString((String) arg);
-                                            replacementNeeded = true;
-                                            break;
-                                        case "java.lang.Integer":
-                                            @SuppressWarnings("unchecked")
-                                            ParamConverter<Integer> intConverter = (ParamConverter<Integer>) converter;
-                                            argsReplacement[index] = intConverter.toString((Integer) arg);
-                                            replacementNeeded = true;
-                                            break;
-                                        case "java.lang.Boolean":
-                                            @SuppressWarnings("unchecked")
-                                            ParamConverter<Boolean> boolConverter = (ParamConverter<Boolean>) converter;
-                                            argsReplacement[index] = boolConverter.toString((Boolean) arg);
-                                            replacementNeeded = true;
-                                            break;
-                                        default:
-                                            continue;
-                                    }
-                                }
-                            }
-                        } else {
-                            argsReplacement[index] = arg;
-                        }
-                        index++;
-                    }
-                }
-            }
+        if (plan.batched() != null) {
+            // The items are converted as the argument of the batch method
+            return getBatcher(plan).add(args[0]);
         }
 
-        if (replacementNeeded) {
-            args = argsReplacement;
+        args = plan.convertArguments(args);
+
+        if (coalescer != null && plan.isCoalescible()) {
+            final Object[] arguments = args;
+            return coalescer.invoke(plan, arguments, () -> invokeLimited(plan, method, arguments));
         }
+        return invokeLimited(plan, method, args);
+    }
 
+    /**
+     * Invokes the client once the rate limiter, if any, allows the request. The invocation fails without sending a
+     * request if the {@linkplain Deadline deadline} of the caller expired or expires before the request is allowed.
+     *
+     * @param plan   the plan of the method
+     * @param method the invoked method
+     * @param args   the converted arguments
+     *
+     * @return the result of the invocation
+     */
+    private Object invokeLimited(final InvocationPlan plan, final Method method, final Object[] args) throws Throwable {
+        if (plan.isSubResource()) {
+            return invokeAdmitted(plan, method, args);
+        }
+        final Deadline deadline = Deadline.current();
+        final long delay;
         try {
-            final Object result = method.invoke(target, args);
-            final Class<?> returnType = method.getReturnType();
-            // Check if this is a sub-resource. A sub-resource must be an interface.
-            if (returnType.isInterface()) {
-                final Annotation[] annotations = method.getDeclaredAnnotations();
-                boolean hasPath = false;
-                boolean hasHttpMethod = false;
-                // Check the annotations. If the method has one of the @HttpMethod annotations, we will just use the
-                // current method. If it only has a @Path, then we need to create a proxy for the return type.
-                for (Annotation annotation : annotations) {
-                    final Class<?> type = annotation.annotationType();
-                    if (type.equals(Path.class)) {
-                        hasPath = true;
-                    } else if (type.getDeclaredAnnotation(HttpMethod.class) != null) {
-                        hasHttpMethod = true;
-                    }
-                }
-                if (!hasHttpMethod && hasPath) {
-                    // Create a proxy of the return type re-using the providers and client, but do not add the required
-                    // interfaces for the sub-resource.
-                    return createProxy(returnType, result, false, providerInstances, client, getBeanManager());
+            if (deadline != null) {
+                deadline.check();
+            }
+            delay = rateLimiter == null ? 0 : rateLimiter.reserve();
+            if (deadline != null && delay > deadline.remaining(TimeUnit.NANOSECONDS)) {
+                throw new DeadlineExceededException("The deadline of the invocation expires before the request is allowed");
+            }
+        } catch (RequestRejectedException | DeadlineExceededException e) {
+            if (plan.isAsync()) {
+                return CompletableFuture.failedFuture(e);
+            }
+            throw e;
+        }
+        if (delay > 0) {
+            if (plan.isAsync()) {
+                return invokeDelayed(plan, method, args, delay);
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ProcessingException(e);
+            }
+        }
+        return invokeAdmitted(plan, method, args);
+    }
+
+    /**
+     * Invokes the client once the request is admitted by the limiter or the scheduler, if any.
+     *
+     * @param plan   the plan of the method
+     * @param method the invoked method
+     * @param args   the converted arguments
+     *
+     * @return the result of the invocation
+     */
+    private Object invokeAdmitted(final InvocationPlan plan, final Method method, final Object[] args) throws Throwable {
+        if (plan.isSubResource() || (limiter == null && scheduler == null)) {
+            return invokeClient(plan, method, args, null);
+        }
+        final ConcurrencyLimiter.Permit permit;
+        try {
+            if (scheduler == null) {
+                permit = limiter.acquire();
+            } else {
+                final CompletableFuture<ConcurrencyLimiter.Permit> admission = scheduler
+                        .schedule(plan.priority(scheduler.getDefaultPriority()));
+                if (plan.isAsync() && !admission.isDone()) {
+                    return invokeWhenAdmitted(plan, method, args, admission);
                 }
+                permit = awaitAdmission(admission, Deadline.current());
+            }
+        } catch (RequestRejectedException | DeadlineExceededException e) {
+            if (plan.isAsync()) {
+                return CompletableFuture.failedFuture(e);
+            }
+            throw e;
+        }
+        return invokeClient(plan, method, args, permit);
+    }
+
+    /**
+     * Invokes the RESTEasy client proxy.
+     *
+     * @param plan   the plan of the method
+     * @param method the invoked method
+     * @param args   the converted arguments
+     * @param permit the permit of the request, released when the request completed, or {@code null}
+     *
+     * @return the result of the invocation
+     */
+    private Object invokeClient(final InvocationPlan plan, final Method method, final Object[] args,
+            final ConcurrencyLimiter.Permit permit) throws Throwable {
+        final Deadline deadline = permit == null ? null : Deadline.current();
+        final Object result;
+        try {
+            result = plan.invoke(target, args);
+        } catch (Throwable e) {
+            if (permit != null) {
+                release(permit, e, deadline);
             }
-            return result;
-        } catch (InvocationTargetException e) {
-            Throwable cause = e.getCause();
+            Throwable cause = e;
             if (cause instanceof CompletionException) {
                 cause = cause.getCause();
             }
@@ -200,6 +278,193 @@ public class ProxyInvocationHandler implements InvocationHandler {
             }
             throw e;
         }
+        if (permit != null) {
+            if (result instanceof CompletionStage) {
+                // The request of an asynchronous method is in flight until the result is completed
+                ((CompletionStage<?>) result).whenComplete((value, error) -> release(permit, error, deadline));
+            } else {
+                permit.release(null);
+            }
+        }
+        if (plan.isSubResource()) {
+            return createSubResourceProxy(method, result);
+        }
+        return result;
+    }
+
+    /**
+     * Invokes an asynchronous method once the request was admitted by the scheduler. The request is sent by the thread
+     * completing the previous request, so the RESTEasy context data of the caller is restored for the invocation.
+     *
+     * @param plan      the plan of the method
+     * @param method    the invoked method
+     * @param args      the converted arguments
+     * @param admission the admission of the request
+     *
+     * @return the result of the invocation
+     */
+    private CompletionStage<Object> invokeWhenAdmitted(final InvocationPlan plan, final Method method, final Object[] args,
+            final CompletableFuture<ConcurrencyLimiter.Permit> admission) {
+        final CompletableFuture<Object> result = new CompletableFuture<>();
+        final Map<Class<?>, Object> contextData = new HashMap<>(ResteasyContext.getContextDataMap());
+        admission.whenComplete((permit, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error);
+                return;
+            }
+            ResteasyContext.pushContextDataMap(contextData);
+            try {
+                forward((CompletionStage<?>) invokeClient(plan, method, args, permit), result);
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            } finally {
+                ResteasyContext.removeContextDataLevel();
+            }
+        });
+        // Cancelling the result, or the expiration of the deadline, removes the request from the queue
+        result.whenComplete((value, error) -> {
+            if (isEndedByCaller(error)) {
+                admission.cancel(false);
+            }
+        });
+        final Deadline deadline = Deadline.current();
+        return deadline == null ? result : deadline.enforce(result);
+    }
+
+    /**
+     * Invokes an asynchronous method after the delay imposed by the rate limiter. The RESTEasy context data of the
+     * caller is restored for the invocation.
+     *
+     * @param plan   the plan of the method
+     * @param method the invoked method
+     * @param args   the converted arguments
+     * @param delay  the delay in nanoseconds
+     *
+     * @return the result of the invocation
+     */
+    private CompletionStage<Object> invokeDelayed(final InvocationPlan plan, final Method method, final Object[] args,
+            final long delay) {
+        final CompletableFuture<Object> result = new CompletableFuture<>();
+        final Map<Class<?>, Object> contextData = new HashMap<>(ResteasyContext.getContextDataMap());
+        final Runnable task = () -> {
+            // The result may have been cancelled while waiting
+            if (result.isDone()) {
+                return;
+            }
+            ResteasyContext.pushContextDataMap(contextData);
+            try {
+                forward((CompletionStage<?>) invokeAdmitted(plan, method, args), result);
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            } finally {
+                ResteasyContext.removeContextDataLevel();
+            }
+        };
+        // The delayed task only hands the invocation to the executor, so a rejection can be reported to the caller
+        CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS, Runnable::run).execute(() -> {
+            try {
+                client.asyncInvocationExecutor().execute(task);
+            } catch (RejectedExecutionException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Completes the result of an invocation started later, once admitted or after a delay, from the stage of the
+     * invocation. The stage is cancelled if the result is cancelled or fails with a timeout, so the request does not
+     * keep running after the caller gave up on it.
+     *
+     * @param stage  the stage of the invocation
+     * @param result the result returned to the caller
+     */
+    private static void forward(final CompletionStage<?> stage, final CompletableFuture<Object> result) {
+        final CompletableFuture<?> future = stage.toCompletableFuture();
+        future.whenComplete((value, t) -> {
+            if (t == null) {
+                result.complete(value);
+            } else {
+                result.completeExceptionally(t);
+            }
+        });
+        result.whenComplete((value, error) -> {
+            if (isEndedByCaller(error)) {
+                future.cancel(true);
+            }
+        });
+    }
+
+    private static boolean isEndedByCaller(final Throwable error) {
+        return error instanceof CancellationException || error instanceof TimeoutException
+                || error instanceof DeadlineExceededException;
+    }
+
+    private static ConcurrencyLimiter.Permit awaitAdmission(final CompletableFuture<ConcurrencyLimiter.Permit> admission,
+            final Deadline deadline) {
+        try {
+            return deadline == null ? admission.get() : admission.get(deadline.remaining(TimeUnit.NANOSECONDS),
+                    TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            withdraw(admission);
+            Thread.currentThread().interrupt();
+            throw new ProcessingException(e);
+        } catch (TimeoutException e) {
+            withdraw(admission);
+            throw new DeadlineExceededException("The deadline of the invocation expired before the request was admitted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new ProcessingException(e.getCause());
+        }
+    }
+
+    /**
+     * Releases the permit of a request. A request ended by the caller, because it was cancelled or timed out or because
+     * the deadline of the caller expired, is not recorded by the limiter.
+     */
+    private static void release(final ConcurrencyLimiter.Permit permit, final Throwable error, final Deadline deadline) {
+        final Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause()
+                : error;
+        if (isEndedByCaller(cause) || (cause != null && deadline != null && deadline.isExpired())) {
+            permit.ignore();
+        } else {
+            permit.release(error);
+        }
+    }
+
+    private static void withdraw(final CompletableFuture<ConcurrencyLimiter.Permit> admission) {
+        if (!admission.cancel(false) && !admission.isCompletedExceptionally()) {
+            // Admitted in the meantime
+            admission.join().ignore();
+        }
+    }
+
+    /**
+     * Creates a proxy of the return type of the sub-resource locator re-using the providers and client, but does not
+     * add the required interfaces for the sub-resource. The proxy class is resolved, and the client header providers
+     * are registered, only on the first invocation of the locator.
+     *
+     * @param locator the sub-resource locator method
+     * @param target  the sub-resource returned by the RESTEasy client proxy
+     *
+     * @return the new proxy
+     */
+    private Object createSubResourceProxy(final Method locator, final Object target) throws Throwable {
+        // The requests of a sub-resource depend on the arguments of the locator, so they are not coalesced
+        final ProxyInvocationHandler handler = new ProxyInvocationHandler(target, providerInstances, client, plans,
+                subResources, useMethodHandles, limiter, scheduler, rateLimiter, null, batchingHeaders);
+        final SubResource subResource = subResources.get(locator);
+        if (subResource != null) {
+            return subResource.newProxy(handler);
+        }
+        final Class<?> resourceInterface = locator.getReturnType();
+        final Object proxy = Proxy.newProxyInstance(getClassLoader(resourceInterface), new Class<?>[] { resourceInterface },
+                handler);
+        ClientHeaderProviders.registerForClass(resourceInterface, proxy, getBeanManager());
+        subResources.putIfAbsent(locator, SubResource.of(resourceInterface, proxy.getClass()));
+        return proxy;
     }
 
     /**
@@ -215,38 +480,41 @@ public class ProxyInvocationHandler implements InvocationHandler {
      */
     static Object createProxy(final Class<?> resourceInterface, final Object target, final Set<Object> providers,
             final ResteasyClient client, final BeanManager beanManager) {
-        return createProxy(resourceInterface, target, true, providers, client, beanManager);
+        return createProxy(resourceInterface, target, providers, client, beanManager, false, null, null, null, null,
+                List.of());
     }
 
     /**
-     * Creates a proxy for the interface.
-     * <p>
-     * If {@code addExtendedInterfaces} is set to {@code true}, the proxy will implement the interfaces
-     * {@link RestClientProxy} and {@link Closeable}.
-     * </p>
+     * Creates a proxy for the interface. The proxy will implement the interfaces {@link RestClientProxy} and
+     * {@link Closeable}.
      *
-     * @param resourceInterface     the resource interface to create the proxy for
-     * @param target                the target object for the proxy
-     * @param addExtendedInterfaces {@code true} if the proxy should also implement {@link RestClientProxy} and
-     *                              {@link Closeable}
-     * @param providers             the providers for the client
-     * @param client                the client to use
-     * @param beanManager           the bean manager used to register {@linkplain ClientHeaderProviders client header providers}
+     * @param resourceInterface the resource interface to create the proxy for
+     * @param target            the target object for the proxy
+     * @param providers         the providers for the client
+     * @param client            the client to use
+     * @param beanManager       the bean manager used to register {@linkplain ClientHeaderProviders client header providers}
+     * @param useMethodHandles  {@code true} if the target should be invoked through method handles rather than reflection
+     * @param limiter           the limiter for the concurrent requests of the client or {@code null} if they are not
+     *                              limited
+     * @param scheduler         the scheduler of the requests of the client, using the limiter, or {@code null} if the
+     *                              requests are not scheduled
+     * @param rateLimiter       the limiter of the rate of the requests of the client or {@code null} if the rate is
+     *                              not limited
+     * @param coalescer         the coalescer of identical concurrent invocations or {@code null} if they are not
+     *                              coalesced
+     * @param batchingHeaders   the names of the headers of the incoming request which must be equal for invocations
+     *                              to be batched together
      * @return the new proxy
      */
-    static Object createProxy(final Class<?> resourceInterface, final Object target, final boolean addExtendedInterfaces,
-            final Set<Object> providers, final ResteasyClient client, final BeanManager beanManager) {
-        final Class<?>[] interfaces;
-        if (addExtendedInterfaces) {
-            interfaces = new Class<?>[3];
-            interfaces[1] = RestClientProxy.class;
-            interfaces[2] = Closeable.class;
-        } else {
-            interfaces = new Class[1];
-        }
-        interfaces[0] = resourceInterface;
+    static Object createProxy(final Class<?> resourceInterface, final Object target, final Set<Object> providers,
+            final ResteasyClient client, final BeanManager beanManager, final boolean useMethodHandles,
+            final ConcurrencyLimiter limiter, final RequestScheduler scheduler, final RateLimiter rateLimiter,
+            final RequestCoalescer coalescer, final List<String> batchingHeaders) {
+        final Class<?>[] interfaces = new Class<?>[] { resourceInterface, RestClientProxy.class, Closeable.class };
         final Object proxy = Proxy.newProxyInstance(getClassLoader(resourceInterface), interfaces,
-                new ProxyInvocationHandler(resourceInterface, target, Set.copyOf(providers), client));
+                new ProxyInvocationHandler(target, Set.copyOf(providers), client, new ConcurrentHashMap<>(),
+                        new ConcurrentHashMap<>(), useMethodHandles, limiter, scheduler, rateLimiter, coalescer,
+                        batchingHeaders));
         ClientHeaderProviders.registerForClass(resourceInterface, proxy, beanManager);
         return proxy;
     }
@@ -255,6 +523,12 @@ public class ProxyInvocationHandler implements InvocationHandler {
         switch (method.getName()) {
             case "getClient":
                 return client;
+            case "getConcurrencyLimiter":
+                return Optional.ofNullable(limiter);
+            case "getRequestScheduler":
+                return Optional.ofNullable(scheduler);
+            case "getRateLimiter":
+                return Optional.ofNullable(rateLimiter);
             case "close":
                 close();
                 return null;
@@ -263,21 +537,30 @@ public class ProxyInvocationHandler implements InvocationHandler {
         }
     }
 
-    private void close() {
-        if (closed.compareAndSet(false, true)) {
-            client.close();
+    private RequestBatcher getBatcher(final InvocationPlan plan) {
+        final RequestBatcher batcher = batchers.get(plan.method());
+        if (batcher != null) {
+            return batcher;
         }
+        return batchers.computeIfAbsent(plan.method(), m -> new RequestBatcher(plan.batched(), batchingHeaders,
+                client.asyncInvocationExecutor(), items -> {
+                    final InvocationPlan batchPlan = getPlan(plan.batchMethod());
+                    return invokeLimited(batchPlan, batchPlan.method(), batchPlan.convertArguments(new Object[] { items }));
+                }));
     }
 
-    private Type[] getGenericTypes(Class<?> aClass) {
-        Type[] genericInterfaces = aClass.getGenericInterfaces();
-        Type[] genericTypes = NO_TYPES;
-        for (Type genericInterface : genericInterfaces) {
-            if (genericInterface instanceof ParameterizedType) {
-                genericTypes = ((ParameterizedType) genericInterface).getActualTypeArguments();
-            }
+    private InvocationPlan getPlan(final Method method) {
+        final InvocationPlan plan = plans.get(method);
+        if (plan != null) {
+            return plan;
+        }
+        return plans.computeIfAbsent(method, m -> InvocationPlan.of(m, providerInstances, useMethodHandles));
+    }
+
+    private void close() {
+        if (closed.compareAndSet(false, true)) {
+            client.close();
         }
-        return genericTypes;
     }
 
     private static ClassLoader getClassLoader(final Class<?> type) {
@@ -296,4 +579,39 @@ public class ProxyInvocationHandler implements InvocationHandler {
             return null;
         }
     }
+
+    /**
+     * The proxy class created for a sub-resource locator. Instances are shared by all proxies of a client.
+     */
+    private static final class SubResource {
+        private final Class<?> resourceInterface;
+        private final MethodHandle constructor;
+
+        private SubResource(final Class<?> resourceInterface, final MethodHandle constructor) {
+            this.resourceInterface = resourceInterface;
+            this.constructor = constructor;
+        }
+
+        static SubResource of(final Class<?> resourceInterface, final Class<?> proxyClass) {
+            MethodHandle constructor;
+            try {
+                constructor = MethodHandles.publicLookup()
+                        .findConstructor(proxyClass, MethodType.methodType(void.class, InvocationHandler.class))
+                        .asType(MethodType.methodType(Object.class, InvocationHandler.class));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                // The proxy class is not accessible, e.g. the interface is not public, fallback to the Proxy API
+                LOGGER.debugf(e, "Unable to access the constructor of the proxy for %s", resourceInterface);
+                constructor = null;
+            }
+            return new SubResource(resourceInterface, constructor);
+        }
+
+        Object newProxy(final InvocationHandler handler) throws Throwable {
+            if (constructor != null) {
+                return (Object) constructor.invokeExact(handler);
+            }
+            return Proxy.newProxyInstance(getClassLoader(resourceInterface), new Class<?>[] { resourceInterface },
+                    handler);
+        }
+    }
 }
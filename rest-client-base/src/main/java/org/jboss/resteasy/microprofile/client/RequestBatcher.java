@@ -0,0 +1,187 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.resteasy.core.ResteasyContext;
+import org.jboss.resteasy.microprofile.client.batch.Batched;
+
+/**
+ * Collects the invocations of a {@link Batched} method and sends them as a request of the batch method. Invocations
+ * are only batched together if the selected headers of their current incoming requests are equal, as these may be
+ * propagated by a {@link org.eclipse.microprofile.rest.client.ext.ClientHeadersFactory}. The batch is sent from another
+ * thread, with the RESTEasy context data of the first invocation of the batch.
+ */
+final class RequestBatcher {
+
+    @FunctionalInterface
+    interface BatchInvoker {
+        Object invoke(List<Object> items) throws Throwable;
+    }
+
+    private final int maxSize;
+    private final long maxDelay;
+    private final List<String> headers;
+    private final Executor executor;
+    private final BatchInvoker invoker;
+
+    // Guarded by this
+    private final Map<List<List<String>>, Batch> pending;
+
+    /**
+     * Creates a new batcher.
+     *
+     * @param batched  the annotation of the single item method
+     * @param headers  the names of the headers of the current incoming request which must be equal for invocations to
+     *                     be batched together
+     * @param executor the executor sending the batches
+     * @param invoker  invokes the batch method
+     */
+    RequestBatcher(final Batched batched, final List<String> headers, final Executor executor,
+            final BatchInvoker invoker) {
+        this.maxSize = Math.max(1, batched.maxSize());
+        this.maxDelay = Math.max(0, batched.maxDelay());
+        this.headers = List.copyOf(headers);
+        this.executor = executor;
+        this.invoker = invoker;
+        this.pending = new HashMap<>();
+    }
+
+    /**
+     * Adds an invocation to the current batch.
+     *
+     * @param item the argument of the single item method
+     *
+     * @return the result of the invocation
+     */
+    CompletionStage<Object> add(final Object item) {
+        final List<List<String>> key = RequestCoalescer.incomingHeaders(headers);
+        final CompletableFuture<Object> result = new CompletableFuture<>();
+        final Batch batch;
+        final boolean first;
+        final boolean full;
+        synchronized (this) {
+            Batch current = pending.get(key);
+            first = current == null;
+            if (first) {
+                current = new Batch(new HashMap<>(ResteasyContext.getContextDataMap()));
+                pending.put(key, current);
+            }
+            current.items.computeIfAbsent(item, i -> new ArrayList<>()).add(result);
+            full = current.items.size() >= maxSize;
+            if (full) {
+                pending.remove(key);
+            }
+            batch = current;
+        }
+        if (full) {
+            try {
+                executor.execute(() -> send(batch));
+            } catch (RejectedExecutionException e) {
+                batch.complete(null, e);
+            }
+        } else if (first) {
+            // The delayed task only hands the batch to the executor, so a rejection can be reported to the callers
+            CompletableFuture.delayedExecutor(maxDelay, TimeUnit.MILLISECONDS, Runnable::run).execute(() -> {
+                try {
+                    executor.execute(() -> {
+                        if (remove(key, batch)) {
+                            send(batch);
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    if (remove(key, batch)) {
+                        batch.complete(null, e);
+                    }
+                }
+            });
+        }
+        return result;
+    }
+
+    /**
+     * Removes a batch which is sent after the delay.
+     *
+     * @return {@code false} if the batch was already sent because it was full
+     */
+    private synchronized boolean remove(final List<List<String>> key, final Batch batch) {
+        return pending.remove(key, batch);
+    }
+
+    private void send(final Batch batch) {
+        ResteasyContext.pushContextDataMap(batch.contextData);
+        try {
+            final Object result = invoker.invoke(new ArrayList<>(batch.items.keySet()));
+            if (result instanceof CompletionStage) {
+                ((CompletionStage<?>) result).whenComplete(batch::complete);
+            } else {
+                batch.complete(result, null);
+            }
+        } catch (Throwable t) {
+            batch.complete(null, t);
+        } finally {
+            ResteasyContext.removeContextDataLevel();
+        }
+    }
+
+    private static final class Batch {
+        private final Map<Class<?>, Object> contextData;
+        private final Map<Object, List<CompletableFuture<Object>>> items;
+
+        private Batch(final Map<Class<?>, Object> contextData) {
+            this.contextData = contextData;
+            this.items = new LinkedHashMap<>();
+        }
+
+        private void complete(final Object result, final Throwable error) {
+            if (error != null) {
+                final Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause()
+                        : error;
+                items.values().forEach(futures -> futures.forEach(future -> future.completeExceptionally(cause)));
+            } else if (result instanceof Map) {
+                final Map<?, ?> results = (Map<?, ?>) result;
+                items.forEach((item, futures) -> futures.forEach(future -> future.complete(results.get(item))));
+            } else if (result instanceof List && ((List<?>) result).size() == items.size()) {
+                final List<?> results = (List<?>) result;
+                int i = 0;
+                for (List<CompletableFuture<Object>> futures : items.values()) {
+                    final Object value = results.get(i++);
+                    futures.forEach(future -> future.complete(value));
+                }
+            } else {
+                complete(null, new IllegalStateException(String.format(
+                        "The batch method returned %s rather than a list of %d results or a map of the results",
+                        result == null ? null : result.getClass().getName(), items.size())));
+            }
+        }
+    }
+}
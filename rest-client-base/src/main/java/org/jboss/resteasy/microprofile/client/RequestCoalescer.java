@@ -0,0 +1,230 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.core.HttpHeaders;
+
+import org.jboss.resteasy.core.ResteasyContext;
+
+/**
+ * Coalesces identical concurrent invocations of a client into a single request. Invocations are identical if they
+ * invoke the same method with equal arguments, which determine the URI and the header parameters, and the selected
+ * headers of the current incoming request, which may be propagated by a
+ * {@link org.eclipse.microprofile.rest.client.ext.ClientHeadersFactory}, are equal.
+ * <p>
+ * All callers receive the same result instance, which must therefore not be modified. Likewise, if the request fails,
+ * all callers receive the same exception instance. For a synchronous method, the exception rethrown to the waiting
+ * callers was thrown on the thread of the caller which sent the request, and its stack trace is the one of that thread.
+ * </p>
+ * <p>
+ * A caller of an asynchronous method cancelling its result does not cancel the request of the other callers. The
+ * request is cancelled once all callers waiting for it gave up, by cancelling their result or letting it time out.
+ * </p>
+ */
+final class RequestCoalescer {
+
+    @FunctionalInterface
+    interface Invoker {
+        Object invoke() throws Throwable;
+    }
+
+    private final List<String> headers;
+    private final ConcurrentMap<Key, InFlight> inFlight;
+
+    /**
+     * Creates a new coalescer.
+     *
+     * @param headers the names of the headers of the current incoming request which are part of the key
+     */
+    RequestCoalescer(final List<String> headers) {
+        this.headers = List.copyOf(headers);
+        this.inFlight = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Invokes the method, or waits for the result of an identical invocation in flight.
+     *
+     * @param plan    the plan of the method
+     * @param args    the converted arguments
+     * @param invoker invokes the client if no identical invocation is in flight
+     *
+     * @return the result of the invocation
+     */
+    Object invoke(final InvocationPlan plan, final Object[] args, final Invoker invoker) throws Throwable {
+        final Key key = new Key(plan.method(), args, incomingHeaders(headers));
+        final InFlight request = new InFlight();
+        for (;;) {
+            final InFlight existing = inFlight.putIfAbsent(key, request);
+            if (existing == null) {
+                break;
+            }
+            if (!plan.isAsync()) {
+                return await(existing.shared);
+            }
+            if (existing.join()) {
+                return existing.waiter();
+            }
+            // All callers of the request gave up and it is being cancelled
+            inFlight.remove(key, existing);
+        }
+        final Object result;
+        try {
+            result = invoker.invoke();
+        } catch (Throwable t) {
+            inFlight.remove(key, request);
+            request.shared.completeExceptionally(t);
+            throw t;
+        }
+        if (result instanceof CompletionStage) {
+            request.stage = ((CompletionStage<?>) result).toCompletableFuture();
+            request.stage.whenComplete((value, error) -> {
+                inFlight.remove(key, request);
+                if (error == null) {
+                    request.shared.complete(value);
+                } else {
+                    request.shared.completeExceptionally(error);
+                }
+            });
+            return request.waiter();
+        }
+        inFlight.remove(key, request);
+        request.shared.complete(result);
+        return result;
+    }
+
+    /**
+     * Returns the values of the headers of the current incoming request.
+     *
+     * @param headers the names of the headers
+     *
+     * @return the values of the headers, in the order of the names, or an empty list if there is no incoming request
+     */
+    static List<List<String>> incomingHeaders(final List<String> headers) {
+        if (headers.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final HttpHeaders httpHeaders = ResteasyContext.getContextData(HttpHeaders.class);
+        if (httpHeaders == null) {
+            return Collections.emptyList();
+        }
+        final List<List<String>> values = new ArrayList<>(headers.size());
+        for (String header : headers) {
+            values.add(httpHeaders.getRequestHeader(header));
+        }
+        return values;
+    }
+
+    private static Object await(final CompletableFuture<Object> future) throws Throwable {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProcessingException(e);
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * An invocation in flight and the number of callers of an asynchronous method waiting for it.
+     */
+    private static final class InFlight {
+        private final CompletableFuture<Object> shared = new CompletableFuture<>();
+        // The caller which sent the request is the first waiter, 0 once all waiters gave up
+        private final AtomicInteger waiters = new AtomicInteger(1);
+        private volatile CompletableFuture<?> stage;
+
+        private boolean join() {
+            for (;;) {
+                final int current = waiters.get();
+                if (current == 0) {
+                    return false;
+                }
+                if (waiters.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * Returns the result of a waiting caller. A caller cancelling it, or completing it otherwise, does not complete
+         * the result of the other callers.
+         */
+        private CompletableFuture<Object> waiter() {
+            final CompletableFuture<Object> result = shared.copy();
+            result.whenComplete((value, error) -> {
+                // Completed before the request, the caller gave up
+                if (!shared.isDone() && waiters.decrementAndGet() == 0) {
+                    final CompletableFuture<?> current = stage;
+                    if (current != null) {
+                        current.cancel(true);
+                    }
+                }
+            });
+            return result;
+        }
+    }
+
+    private static final class Key {
+        private final Method method;
+        private final Object[] args;
+        private final List<List<String>> headers;
+        private final int hash;
+
+        private Key(final Method method, final Object[] args, final List<List<String>> headers) {
+            this.method = method;
+            this.args = args == null ? new Object[0] : args;
+            this.headers = headers;
+            this.hash = Objects.hash(method, Arrays.deepHashCode(this.args), headers);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return hash == other.hash && method.equals(other.method) && Arrays.deepEquals(args, other.args)
+                    && headers.equals(other.headers);
+        }
+    }
+}
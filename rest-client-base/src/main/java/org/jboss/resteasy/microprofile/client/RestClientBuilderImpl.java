@@ -29,12 +29,14 @@ import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
 import java.net.InetSocketAddress;
 import java.net.ProxySelector;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.Paths;
 import java.security.AccessController;
 import java.security.KeyStore;
 import java.security.PrivilegedAction;
@@ -51,8 +53,10 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.net.ssl.HostnameVerifier;
@@ -66,6 +70,7 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Priorities;
 import jakarta.ws.rs.core.Configuration;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.ext.ParamConverterProvider;
@@ -90,10 +95,34 @@ import org.jboss.resteasy.concurrent.ContextualExecutors;
 import org.jboss.resteasy.core.Headers;
 import org.jboss.resteasy.microprofile.client.async.AsyncInterceptorRxInvokerProvider;
 import org.jboss.resteasy.microprofile.client.async.AsyncInvocationInterceptorThreadContext;
+import org.jboss.resteasy.microprofile.client.balancing.EndpointSupplier;
+import org.jboss.resteasy.microprofile.client.balancing.LoadBalancer;
+import org.jboss.resteasy.microprofile.client.balancing.LoadBalancingClientEngine;
+import org.jboss.resteasy.microprofile.client.deadline.Deadline;
+import org.jboss.resteasy.microprofile.client.deadline.DeadlineHeaderFilter;
+import org.jboss.resteasy.microprofile.client.dns.DnsCache;
+import org.jboss.resteasy.microprofile.client.dns.DnsCachingClientHttpEngineBuilder;
+import org.jboss.resteasy.microprofile.client.dns.HostResolver;
+import org.jboss.resteasy.microprofile.client.engine.ApacheClientHttpEngineBuilder;
+import org.jboss.resteasy.microprofile.client.engine.JavaHttpClientEngine;
+import org.jboss.resteasy.microprofile.client.engine.LoopbackClientEngine;
+import org.jboss.resteasy.microprofile.client.engine.SharedClientHttpEngines;
+import org.jboss.resteasy.microprofile.client.engine.UnixDomainSocketClientEngine;
 import org.jboss.resteasy.microprofile.client.header.ClientHeadersRequestFilter;
+import org.jboss.resteasy.microprofile.client.hedging.Hedged;
+import org.jboss.resteasy.microprofile.client.hedging.RequestHedging;
 import org.jboss.resteasy.microprofile.client.impl.MpClient;
 import org.jboss.resteasy.microprofile.client.impl.MpClientBuilderImpl;
+import org.jboss.resteasy.microprofile.client.limit.ConcurrencyLimiter;
+import org.jboss.resteasy.microprofile.client.limit.RateLimiter;
+import org.jboss.resteasy.microprofile.client.limit.RequestPriority;
+import org.jboss.resteasy.microprofile.client.limit.RequestRejectedException;
+import org.jboss.resteasy.microprofile.client.limit.RequestScheduler;
 import org.jboss.resteasy.microprofile.client.publisher.MpPublisherMessageBodyReader;
+import org.jboss.resteasy.microprofile.client.timeout.RequestTimeout;
+import org.jboss.resteasy.microprofile.client.timeout.RequestTimeoutFilter;
+import org.jboss.resteasy.microprofile.client.timeout.RequestTimeouts;
+import org.jboss.resteasy.microprofile.client.utils.VirtualThreads;
 import org.jboss.resteasy.specimpl.ResteasyUriBuilderImpl;
 import org.jboss.resteasy.spi.ResteasyProviderFactory;
 import org.jboss.resteasy.spi.ResteasyUriBuilder;
@@ -102,7 +131,327 @@ public class RestClientBuilderImpl implements RestClientBuilder {
 
     private static final String RESTEASY_PROPERTY_PREFIX = "resteasy.";
 
+    private static final String UNIX_SCHEME = "unix";
+
+    private static final URI UNIX_SOCKET_URI = URI.create("http://localhost");
+
     private static final String DEFAULT_MAPPER_PROP = "microprofile.rest.client.disable.default.mapper";
+
+    /**
+     * The prefix for the RESTEasy specific client options. See {@link #getClientOption(Class, String, Class)} for how
+     * an option is resolved.
+     */
+    public static final String CLIENT_OPTION_PREFIX = "dev.resteasy.mp.rest.client.";
+
+    /**
+     * A boolean option which, if {@code true}, invokes the RESTEasy client through a {@link java.lang.invoke.MethodHandle}
+     * rather than through reflection. The exceptions of the RESTEasy client are then not wrapped. The invocations still
+     * go through the {@link java.lang.reflect.Proxy} of the client, and methods of interfaces which are not public are
+     * invoked through reflection. The default is {@code false}.
+     */
+    public static final String METHOD_HANDLE_INVOCATION = CLIENT_OPTION_PREFIX + "methodHandleInvocation";
+
+    /**
+     * A boolean option which, if {@code true}, creates the exceptions used internally to map error responses, and the
+     * exceptions created by the {@link DefaultResponseExceptionMapper}, without a stack trace. The exceptions of the
+     * mapper are private subclasses of the standard types, for example of {@link jakarta.ws.rs.NotFoundException}, so
+     * they should be checked with {@code instanceof} rather than by comparing their class. The default is
+     * {@code false}.
+     */
+    public static final String STACKLESS_EXCEPTIONS = CLIENT_OPTION_PREFIX + "stacklessExceptions";
+
+    /**
+     * A string option for the {@link ClientHttpEngine} used when no engine is provided. The value is one of:
+     * <ul>
+     * <li>{@code default}: the Apache HttpClient engine of RESTEasy, built by {@link ApacheClientHttpEngineBuilder} to
+     * apply the {@link RequestTimeout} of the methods and the {@link Deadline} of the caller</li>
+     * <li>{@code url-connection}: an engine based on {@link java.net.HttpURLConnection}</li>
+     * <li>{@code java-http-client}: an engine based on {@link java.net.http.HttpClient} which supports HTTP/2 and
+     * completes methods returning a {@link java.util.concurrent.CompletionStage} without blocking a thread</li>
+     * <li>{@code loopback}: an engine which dispatches the requests directly to the RESTEasy deployment of the current
+     * request, see {@link LoopbackClientEngine}. The client must be built while a request of the deployment is
+     * processed.</li>
+     * </ul>
+     * The default is {@code url-connection} if the {@code org.jboss.resteasy.microprofile.defaultToURLConnectionHttpClient}
+     * system property is {@code true}, otherwise {@code default}.
+     */
+    public static final String ENGINE = CLIENT_OPTION_PREFIX + "engine";
+
+    /**
+     * A boolean option which, if {@code true}, selects the {@code loopback} {@link #ENGINE} when the client is built while
+     * a request of a RESTEasy deployment is processed and the base URI is a resource of that deployment. The servlet
+     * filters and the security constraints of the web application are not applied to the requests of the client. The
+     * option has no effect if an engine is provided or the engine option is set. The default is {@code false}.
+     */
+    public static final String LOOPBACK_AUTO = CLIENT_OPTION_PREFIX + "loopback.auto";
+
+    /**
+     * A string option for the path of a Unix domain socket. If set, the requests are sent over the socket rather than to
+     * the host of the base URI. A base URI with the {@code unix} scheme, for example {@code unix:///run/sidecar.sock},
+     * sets the socket as well and sends the requests to the root path. The option has no effect if an engine is
+     * provided. Unix domain sockets require Java 16 or later.
+     */
+    public static final String UNIX_SOCKET = CLIENT_OPTION_PREFIX + "unixSocket";
+
+    /**
+     * A boolean option which, if {@code true}, shares the {@link ClientHttpEngine}, and therefore the connection pool,
+     * with other clients with the same authority and compatible settings. The shared engine is closed when the last
+     * client using it is closed. The option has no effect if an engine is provided. The default is {@code false}.
+     */
+    public static final String SHARED_ENGINE = CLIENT_OPTION_PREFIX + "sharedEngine";
+
+    /**
+     * An integer option for the size of the connection pool of a shared engine. The default is {@code 50}.
+     */
+    public static final String SHARED_ENGINE_POOL_SIZE = CLIENT_OPTION_PREFIX + "sharedEngine.connectionPoolSize";
+
+    /**
+     * A boolean option which, if {@code true}, uses an executor shared by all clients of the deployment when no
+     * executor was set on the builder. If {@code false}, a new executor is created for each client. The default is
+     * {@code true}. The server-sent event streams of clients using the shared executor are read on a separate,
+     * unbounded, executor of the deployment.
+     */
+    public static final String EXECUTOR_SHARED = CLIENT_OPTION_PREFIX + "executor.shared";
+
+    /**
+     * An integer option for the maximum number of threads of the shared executor. The option is read when the shared
+     * executor of the deployment is created. As the executor is shared by all clients, only the global MicroProfile
+     * Config property is read. The default is the larger of {@code 16} and twice the number of available processors.
+     */
+    public static final String EXECUTOR_MAX_THREADS = CLIENT_OPTION_PREFIX + "executor.maxThreads";
+
+    /**
+     * An integer option for the maximum number of tasks queued by the shared executor. Tasks submitted when the queue
+     * is full are rejected. The option is read when the shared executor of the deployment is created. As the executor
+     * is shared by all clients, only the global MicroProfile Config property is read. The default is {@code 1024}.
+     */
+    public static final String EXECUTOR_QUEUE_SIZE = CLIENT_OPTION_PREFIX + "executor.queueSize";
+
+    /**
+     * An integer option for the number of seconds an idle thread of the shared executor is kept alive. The option is
+     * read when the shared executor of the deployment is created. As the executor is shared by all clients, only the
+     * global MicroProfile Config property is read. The default is {@code 60}.
+     */
+    public static final String EXECUTOR_KEEP_ALIVE = CLIENT_OPTION_PREFIX + "executor.keepAlive";
+
+    /**
+     * A boolean option which, if {@code true}, runs the asynchronous work of a client on virtual threads when no
+     * executor was set on the builder. This includes methods returning a {@link java.util.concurrent.CompletionStage},
+     * the {@code AsyncInvocationInterceptor}'s and the reading of server-sent events. Virtual threads require Java 21
+     * or later, on older versions the option is ignored. The default is {@code false}.
+     */
+    public static final String VIRTUAL_THREADS = CLIENT_OPTION_PREFIX + "virtualThreads";
+
+    /**
+     * A boolean option which, if {@code true}, limits the number of concurrent requests of the client. The limit is
+     * adjusted from the measured latency, see {@link ConcurrencyLimiter}. Invocations exceeding the limit fail with a
+     * {@link org.jboss.resteasy.microprofile.client.limit.RequestRejectedException} without sending a request. The
+     * limiter of a client is available from {@link RestClientProxy#getConcurrencyLimiter()}. The default is
+     * {@code false}.
+     */
+    public static final String LIMITER_ENABLED = CLIENT_OPTION_PREFIX + "limiter.enabled";
+
+    /**
+     * An integer option for the initial concurrency limit of the client. The default is {@code 20}.
+     */
+    public static final String LIMITER_INITIAL_LIMIT = CLIENT_OPTION_PREFIX + "limiter.initialLimit";
+
+    /**
+     * An integer option for the lowest concurrency limit of the client. The default is {@code 1}.
+     */
+    public static final String LIMITER_MIN_LIMIT = CLIENT_OPTION_PREFIX + "limiter.minLimit";
+
+    /**
+     * An integer option for the highest concurrency limit of the client. The default is {@code 200}.
+     */
+    public static final String LIMITER_MAX_LIMIT = CLIENT_OPTION_PREFIX + "limiter.maxLimit";
+
+    /**
+     * A boolean option which, if {@code true}, schedules the requests of the client by priority. Requests exceeding the
+     * concurrency limit wait in a bounded queue rather than failing, see {@link RequestScheduler}. The priority of a
+     * method is set with {@link org.jboss.resteasy.microprofile.client.limit.RequestPriority}. The limit is the adaptive
+     * limit if the {@linkplain #LIMITER_ENABLED limiter} is enabled, otherwise {@link #SCHEDULER_MAX_CONCURRENT}. The
+     * default is {@code false}.
+     */
+    public static final String SCHEDULER_ENABLED = CLIENT_OPTION_PREFIX + "scheduler.enabled";
+
+    /**
+     * An integer option for the maximum number of concurrent requests of a scheduled client without an adaptive limit.
+     * The default is {@code 20}.
+     */
+    public static final String SCHEDULER_MAX_CONCURRENT = CLIENT_OPTION_PREFIX + "scheduler.maxConcurrent";
+
+    /**
+     * An integer option for the maximum number of requests waiting for a scheduled client. The default is {@code 100}.
+     */
+    public static final String SCHEDULER_QUEUE_SIZE = CLIENT_OPTION_PREFIX + "scheduler.queueSize";
+
+    /**
+     * An integer option for the priority of the methods of a scheduled client without a
+     * {@link org.jboss.resteasy.microprofile.client.limit.RequestPriority}. The default is {@code 0}.
+     */
+    public static final String SCHEDULER_PRIORITY = CLIENT_OPTION_PREFIX + "scheduler.priority";
+
+    /**
+     * A double option for the number of requests per second of the client, which enables the {@link RateLimiter}. The
+     * rate adapts to {@code 429} responses and the requests pause for the {@code Retry-After} header of {@code 429} and
+     * {@code 503} responses. By default the rate is not limited.
+     */
+    public static final String RATE_LIMIT = CLIENT_OPTION_PREFIX + "rateLimit";
+
+    /**
+     * An integer option for the number of requests which may be sent at once after an idle period. The default is the
+     * rate limit, but at least {@code 1}.
+     */
+    public static final String RATE_LIMIT_BURST = CLIENT_OPTION_PREFIX + "rateLimit.burst";
+
+    /**
+     * A long option for the maximum time in milliseconds an invocation waits for the rate limit. Invocations which
+     * would wait longer fail with a {@link RequestRejectedException}. The default is {@code 5000}.
+     */
+    public static final String RATE_LIMIT_MAX_WAIT = CLIENT_OPTION_PREFIX + "rateLimit.maxWait";
+
+    /**
+     * A string option for the name of a header sending the time remaining until the {@link Deadline} of the invocation,
+     * for example {@code grpc-timeout}, see {@link DeadlineHeaderFilter}. By default the header is not sent. The
+     * deadline limits the invocations regardless of this option.
+     */
+    public static final String DEADLINE_HEADER = CLIENT_OPTION_PREFIX + "deadline.header";
+
+    /**
+     * A boolean option which, if {@code true}, hedges the methods of the client using {@code GET}, {@code HEAD} or
+     * {@code OPTIONS}, see {@link RequestHedging}. Methods annotated with {@link Hedged} are hedged regardless of this
+     * option. Only methods returning a {@link java.util.concurrent.CompletionStage} are hedged. The default is
+     * {@code false}.
+     */
+    public static final String HEDGING_ENABLED = CLIENT_OPTION_PREFIX + "hedging.enabled";
+
+    /**
+     * A double option for the percentile of the latency of a hedged method after which a second request is sent. The
+     * default is {@code 95}.
+     */
+    public static final String HEDGING_PERCENTILE = CLIENT_OPTION_PREFIX + "hedging.percentile";
+
+    /**
+     * A double option for the maximum number of additional requests sent by hedging, in percent of the requests of the
+     * hedged methods. The default is {@code 10}.
+     */
+    public static final String HEDGING_BUDGET = CLIENT_OPTION_PREFIX + "hedging.budget";
+
+    /**
+     * A boolean option which, if {@code true}, coalesces identical concurrent invocations of the {@code GET} methods of
+     * the client into a single request. Invocations are identical if the arguments, and the
+     * {@linkplain #COALESCING_HEADERS selected headers} of the current incoming request, are equal. All callers receive
+     * the same result instance, which must not be modified. Methods returning a {@link jakarta.ws.rs.core.Response}, a
+     * stream or a publisher, and the methods of sub-resources, are not coalesced. The option must not be enabled if the
+     * headers of the requests depend on other state, for example a
+     * {@link org.eclipse.microprofile.rest.client.ext.ClientHeadersFactory} using the security identity. The default
+     * is {@code false}.
+     */
+    public static final String COALESCING_ENABLED = CLIENT_OPTION_PREFIX + "coalescing.enabled";
+
+    /**
+     * A string option for the comma separated names of the headers of the current incoming request which must be equal
+     * for invocations to be coalesced. The default is {@code Authorization,Cookie}.
+     */
+    public static final String COALESCING_HEADERS = CLIENT_OPTION_PREFIX + "coalescing.headers";
+
+    /**
+     * A string option for the comma separated names of the headers of the current incoming request which must be equal
+     * for the invocations of a {@link org.jboss.resteasy.microprofile.client.batch.Batched} method to be sent in the
+     * same batch. The default is {@code Authorization,Cookie}.
+     */
+    public static final String BATCHING_HEADERS = CLIENT_OPTION_PREFIX + "batching.headers";
+
+    /**
+     * A string option for the comma separated base URIs of the endpoints the requests of the client are spread across,
+     * see {@link LoadBalancer}. The requests are built against the base URI of the client, which defaults to the first
+     * endpoint, and sent to the selected endpoint. The {@code mp-rest/uri} and {@code mp-rest/url} properties of a CDI
+     * client accept comma separated base URIs as well. The option has no effect for Unix domain sockets.
+     */
+    public static final String ENDPOINTS = CLIENT_OPTION_PREFIX + "endpoints";
+
+    /**
+     * An option for the {@link EndpointSupplier} of the endpoints, which takes precedence over the
+     * {@linkplain #ENDPOINTS endpoints} option. The value is either a supplier set with {@link #property(String, Object)}
+     * or the name of a supplier class with a public no-argument constructor.
+     */
+    public static final String ENDPOINTS_SUPPLIER = CLIENT_OPTION_PREFIX + "endpoints.supplier";
+
+    /**
+     * A string option for the policy selecting the endpoint of a request, either {@code power-of-two-choices} or
+     * {@code least-outstanding}. The default is {@code power-of-two-choices}.
+     */
+    public static final String ENDPOINTS_POLICY = CLIENT_OPTION_PREFIX + "endpoints.policy";
+
+    /**
+     * An integer option for the number of consecutive failures an endpoint is ejected after. The default is {@code 5}.
+     */
+    public static final String ENDPOINTS_FAILURE_THRESHOLD = CLIENT_OPTION_PREFIX + "endpoints.failureThreshold";
+
+    /**
+     * A long option for the time in milliseconds an endpoint is ejected for. The time is multiplied by the number of
+     * ejections in a row, up to ten times. The default is {@code 30000}.
+     */
+    public static final String ENDPOINTS_EJECTION_TIME = CLIENT_OPTION_PREFIX + "endpoints.ejectionTime";
+
+    /**
+     * A boolean option which, if {@code true}, resolves the host names of the client with a {@link DnsCache} rather than
+     * for each new connection. The option is only supported by the default engine. The default is {@code false}.
+     */
+    public static final String DNS_CACHE = CLIENT_OPTION_PREFIX + "dns.cache";
+
+    /**
+     * A long option for the time in milliseconds the addresses of a host are cached for. The default is {@code 30000}.
+     */
+    public static final String DNS_TTL = CLIENT_OPTION_PREFIX + "dns.ttl";
+
+    /**
+     * A boolean option which, if {@code true}, uses a cache shared by all clients with the same time to live. Otherwise,
+     * or if a {@linkplain #DNS_RESOLVER resolver} is set, the client has its own cache. The default is {@code true}.
+     */
+    public static final String DNS_SHARED = CLIENT_OPTION_PREFIX + "dns.shared";
+
+    /**
+     * An option for the {@link HostResolver} of the cache. The value is either a resolver set with
+     * {@link #property(String, Object)} or the name of a resolver class with a public no-argument constructor. The
+     * default is the resolver of the JVM.
+     */
+    public static final String DNS_RESOLVER = CLIENT_OPTION_PREFIX + "dns.resolver";
+
+    /**
+     * A boolean option which, if {@code true}, spreads the connections of the client across all addresses of a host.
+     * Each address has its own connections, limited by the maximum connections per route. Otherwise the first address
+     * is used. The default is {@code true}.
+     */
+    public static final String DNS_SPREAD = CLIENT_OPTION_PREFIX + "dns.spread";
+
+    /**
+     * The suffix of the class generated by the {@code microprofile-rest-client-processor} for an interface which was
+     * verified at compile time.
+     */
+    private static final String VERIFIED_SUFFIX = "$$RestClientVerified";
+
+    /**
+     * Verifies an interface only once. If the verification fails, no value is cached and the exception is thrown again
+     * for the next client built for the interface.
+     */
+    private static final ClassValue<Boolean> VERIFIED_INTERFACES = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            // Skip the verification if it was already done at compile time, the batch methods are checked regardless as
+            // interfaces compiled by an older processor were not checked for them
+            if (!isVerifiedAtCompileTime(type)) {
+                verifyInterface(type);
+            } else {
+                verifyBatchMethods(resolveMethods(type));
+            }
+            return Boolean.TRUE;
+        }
+    };
+
+    private static volatile NonProxyHosts nonProxyHosts;
+
     private static final Logger LOGGER = Logger.getLogger(RestClientBuilderImpl.class);
     private static final DefaultMediaTypeFilter DEFAULT_MEDIA_TYPE_FILTER = new DefaultMediaTypeFilter();
     private static final Collection<Method> IGNORED_METHODS = new ArrayList<>();
@@ -256,13 +605,31 @@ public class RestClientBuilderImpl implements RestClientBuilder {
 
         RestClientListeners.get().forEach(listener -> listener.onNewClient(aClass, this));
 
-        // Interface validity
-        verifyInterface(aClass);
+        // Interface validity, the result is cached per interface
+        VERIFIED_INTERFACES.get(aClass);
 
+        final LoadBalancer loadBalancer = createLoadBalancer(aClass);
+        if (baseURI == null && loadBalancer != null) {
+            // The requests are built against the first endpoint
+            loadBalancer.getEndpoints().stream().findFirst().ifPresent(endpoint -> baseURI = endpoint.getUri());
+        }
         if (baseURI == null) {
             throw new IllegalStateException("Neither baseUri nor baseUrl was specified");
         }
 
+        final java.nio.file.Path unixSocket;
+        final URI targetURI;
+        if (UNIX_SCHEME.equalsIgnoreCase(baseURI.getScheme())) {
+            if (baseURI.getPath() == null || baseURI.getPath().isEmpty()) {
+                throw new IllegalStateException("The base URI " + baseURI + " does not contain the path of the socket");
+            }
+            unixSocket = Paths.get(baseURI.getPath());
+            targetURI = UNIX_SOCKET_URI;
+        } else {
+            unixSocket = getClientOption(aClass, UNIX_SOCKET, String.class).map(Paths::get).orElse(null);
+            targetURI = baseURI;
+        }
+
         // Provider annotations
         RegisterProvider[] providers = aClass.getAnnotationsByType(RegisterProvider.class);
 
@@ -270,12 +637,19 @@ public class RestClientBuilderImpl implements RestClientBuilder {
             register(provider.value(), provider.priority());
         }
 
+        final boolean stacklessExceptions = getClientOption(aClass, STACKLESS_EXCEPTIONS, Boolean.class).orElse(false);
+
         // Default exception mapper
         if (!isMapperDisabled()) {
-            register(DefaultResponseExceptionMapper.class);
+            if (stacklessExceptions) {
+                register(new DefaultResponseExceptionMapper(true));
+            } else {
+                register(DefaultResponseExceptionMapper.class);
+            }
         }
 
-        builderDelegate.register(new ExceptionMapping(localProviderInstances), 1);
+        final RateLimiter rateLimiter = createRateLimiter(aClass);
+        builderDelegate.register(new ExceptionMapping(localProviderInstances, stacklessExceptions, rateLimiter), 1);
 
         ClassLoader classLoader = getClassLoader(aClass);
 
@@ -286,13 +660,11 @@ public class RestClientBuilderImpl implements RestClientBuilder {
         if (this.proxyHost != null) {
             resteasyClientBuilder = builderDelegate.defaultProxy(proxyHost, this.proxyPort);
         } else {
-            List<String> noProxyHosts = getProxyHostsAsRegex();
             String envProxyHost = getSystemProperty("http.proxyHost", null);
             boolean isUriMatched = false;
-            if (envProxyHost != null && !noProxyHosts.isEmpty()) {
-                for (String s : noProxyHosts) {
-                    Pattern p = Pattern.compile(s);
-                    Matcher m = p.matcher(baseURI.getHost());
+            if (envProxyHost != null) {
+                for (Pattern p : getNonProxyHostPatterns()) {
+                    Matcher m = p.matcher(targetURI.getHost());
                     isUriMatched = m.matches();
                     if (isUriMatched) {
                         break;
@@ -319,7 +691,7 @@ public class RestClientBuilderImpl implements RestClientBuilder {
                     resteasyClientBuilder = builderDelegate.defaultProxy(userProxyHost, userProxyPort, userProxyScheme);
                 } else {
                     // ProxySelector if applicable
-                    selectHttpProxy().ifPresent(
+                    selectHttpProxy(targetURI).ifPresent(
                             proxyAddress -> builderDelegate.defaultProxy(proxyAddress.getHostString(), proxyAddress.getPort()));
 
                     resteasyClientBuilder = builderDelegate;
@@ -327,8 +699,22 @@ public class RestClientBuilderImpl implements RestClientBuilder {
             }
         }
 
+        // The executor for tasks blocking for the lifetime of a stream
+        ExecutorService streamExecutor = null;
         if (this.executorService != null) {
             resteasyClientBuilder.executorService(this.executorService);
+        } else if (useVirtualThreads(aClass)) {
+            // A thread per task, the context is propagated by the contextual executor
+            this.executorService = ContextualExecutors.wrap(VirtualThreads.newExecutor());
+            resteasyClientBuilder.executorService(executorService, true);
+        } else if (getClientOption(aClass, EXECUTOR_SHARED, Boolean.class).orElse(true)) {
+            // The shared executor is shut down with the deployment, never by the client. Its options do not depend on
+            // the client which happens to create it.
+            this.executorService = SharedClientExecutors.get(name -> getGlobalOption(name, Integer.class)
+                    .orElseGet(() -> defaultExecutorOption(name)));
+            resteasyClientBuilder.executorService(executorService, false);
+            // Streams would occupy the bounded threads shared by all clients
+            streamExecutor = SharedClientExecutors.getStreamExecutor();
         } else {
             this.executorService = ContextualExecutors.threadPool();
             resteasyClientBuilder.executorService(executorService, !executorService.isManaged());
@@ -336,7 +722,13 @@ public class RestClientBuilderImpl implements RestClientBuilder {
         resteasyClientBuilder.register(DEFAULT_MEDIA_TYPE_FILTER);
         resteasyClientBuilder.register(METHOD_INJECTION_FILTER);
         resteasyClientBuilder.register(new ClientHeadersRequestFilter(headers));
-        register(new MpPublisherMessageBodyReader(executorService));
+        getClientOption(aClass, DEADLINE_HEADER, String.class)
+                .ifPresent(header -> resteasyClientBuilder.register(new DeadlineHeaderFilter(header)));
+        // The timeouts are resolved on the first invocation of each method, including the methods of sub-resources
+        final Config timeoutConfig = config;
+        resteasyClientBuilder.register(
+                new RequestTimeoutFilter(method -> resolveRequestTimeouts(timeoutConfig, aClass, method)));
+        register(new MpPublisherMessageBodyReader(streamExecutor == null ? executorService : streamExecutor));
         resteasyClientBuilder.sslContext(sslContext);
         resteasyClientBuilder.trustStore(trustStore);
         resteasyClientBuilder.keyStore(keyStore, keystorePassword);
@@ -354,43 +746,109 @@ public class RestClientBuilderImpl implements RestClientBuilder {
             resteasyClientBuilder.connectTimeout(connectTimeout, connectTimeoutUnit);
         }
 
-        if (httpEngine != null) {
-            resteasyClientBuilder.httpEngine(httpEngine);
+        final DnsCache dnsCache = createDnsCache(aClass);
+        final boolean spread = getClientOption(aClass, DNS_SPREAD, Boolean.class).orElse(true);
+        // The timeouts of the requests, and the deadline of the caller, require the engine to be built by the client
+        final Function<ResteasyClientBuilder, ClientHttpEngine> defaultEngine;
+        if (dnsCache != null) {
+            defaultEngine = b -> new DnsCachingClientHttpEngineBuilder(dnsCache, spread).resteasyClientBuilder(b).build();
         } else {
+            defaultEngine = b -> new ApacheClientHttpEngineBuilder().resteasyClientBuilder(b).build();
+        }
+        // An engine set on the builder, or registered as a provider, takes precedence over the selected engine
+        ClientHttpEngine clientEngine = httpEngine;
+        if (clientEngine == null) {
             boolean registerEngine = false;
             for (Object p : getBuilderDelegate().getProviderFactory().getProviderInstances()) {
                 if (p instanceof ClientHttpEngine) {
-                    resteasyClientBuilder.httpEngine((ClientHttpEngine) p);
+                    clientEngine = (ClientHttpEngine) p;
                     registerEngine = true;
                     break;
                 }
             }
-            if (!registerEngine && useURLConnection()) {
-                resteasyClientBuilder
-                        .httpEngine(new URLConnectionClientEngineBuilder().resteasyClientBuilder(resteasyClientBuilder)
-                                .build());
+            final String engine = registerEngine || unixSocket != null ? null : selectEngine(aClass, targetURI);
+            if (!registerEngine && unixSocket != null) {
+                clientEngine = new UnixDomainSocketClientEngine(unixSocket,
+                        resteasyClientBuilder.getReadTimeout(TimeUnit.MILLISECONDS));
+            } else if ("url-connection".equals(engine)) {
+                clientEngine = new URLConnectionClientEngineBuilder().resteasyClientBuilder(resteasyClientBuilder)
+                        .build();
                 resteasyClientBuilder.sslContext(null);
                 resteasyClientBuilder.trustStore(null);
                 resteasyClientBuilder.keyStore(null, "");
+            } else if ("loopback".equals(engine)) {
+                clientEngine = LoopbackClientEngine.forCurrentDeployment()
+                        .orElseThrow(() -> new IllegalStateException(String.format(
+                                "The loopback engine of %s requires a current request of a RESTEasy deployment",
+                                aClass.getName())));
+            } else if ("java-http-client".equals(engine)) {
+                clientEngine = JavaHttpClientEngine.create(resteasyClientBuilder);
+            } else if (engine != null && !"default".equals(engine)) {
+                throw new IllegalArgumentException(String.format("Unknown engine %s for %s", engine, aClass.getName()));
+            } else if (engine != null && getClientOption(aClass, SHARED_ENGINE, Boolean.class).orElse(false)) {
+                // A shared engine requires a connection pool, the default engine only uses a single connection
+                final int poolSize = getClientOption(aClass, SHARED_ENGINE_POOL_SIZE, Integer.class).orElse(50);
+                if (resteasyClientBuilder.getConnectionPoolSize() <= 0) {
+                    resteasyClientBuilder.connectionPoolSize(poolSize);
+                }
+                if (resteasyClientBuilder.getMaxPooledPerRoute() <= 0) {
+                    resteasyClientBuilder.maxPooledPerRoute(poolSize);
+                }
+                final Object engineSetting = dnsCache != null ? List.of(dnsCache, spread) : null;
+                clientEngine = SharedClientHttpEngines.acquire(targetURI, resteasyClientBuilder, engineSetting,
+                        defaultEngine);
+            } else if (engine != null) {
+                // Spreading the connections over the addresses, or the endpoints, requires a connection pool
+                if ((dnsCache != null && spread) || loadBalancer != null) {
+                    usePooledConnections(resteasyClientBuilder);
+                }
+                clientEngine = defaultEngine.apply(resteasyClientBuilder);
+            }
+            if (!requestTimeouts.isEmpty() && "url-connection".equals(engine)) {
+                LOGGER.warnf("The timeouts of the methods are not supported by the %s engine, they are ignored for %s",
+                        engine, aClass.getName());
+            }
+            if (dnsCache != null && !"default".equals(engine)) {
+                LOGGER.warnf("The %s option is only supported by the default engine, it is ignored for %s", DNS_CACHE,
+                        aClass.getName());
+            }
+        }
+        if (loadBalancer != null && unixSocket == null) {
+            if (clientEngine == null) {
+                usePooledConnections(resteasyClientBuilder);
+                clientEngine = defaultEngine.apply(resteasyClientBuilder);
             }
+            clientEngine = LoadBalancingClientEngine.wrap(clientEngine, loadBalancer, targetURI);
+        }
+        if (clientEngine != null) {
+            resteasyClientBuilder.httpEngine(clientEngine);
         }
         if (!invocationInterceptorFactories.isEmpty()) {
             resteasyClientBuilder.register(new AsyncInvocationInterceptorThreadContext(invocationInterceptorFactories));
         }
 
+        final RequestHedging hedging = createHedging(aClass);
+        if (hedging != null) {
+            resteasyClientBuilder.property(RequestHedging.PROPERTY, hedging);
+        }
+
         client = resteasyClientBuilder
                 .build();
         ((MpClient) client).setQueryParamStyle(queryParamStyle);
         client.register(AsyncInterceptorRxInvokerProvider.class);
-        actualClient = client.target(baseURI)
+        actualClient = client.target(targetURI)
                 .proxyBuilder(aClass)
                 .classloader(classLoader)
                 .defaultConsumes(MediaType.APPLICATION_JSON)
                 .defaultProduces(MediaType.APPLICATION_JSON).build();
 
+        final ConcurrencyLimiter limiter = createLimiter(aClass);
+        final RequestScheduler scheduler = createScheduler(aClass, limiter);
         return aClass.cast(
                 ProxyInvocationHandler.createProxy(aClass, actualClient, getLocalProviderInstances(), client,
-                        beanManager));
+                        beanManager, getClientOption(aClass, METHOD_HANDLE_INVOCATION, Boolean.class).orElse(false),
+                        scheduler == null ? limiter : scheduler.getLimiter(), scheduler, rateLimiter, createCoalescer(aClass),
+                        getHeadersOption(aClass, BATCHING_HEADERS)));
     }
 
     @SuppressWarnings("unchecked")
@@ -400,19 +858,21 @@ public class RestClientBuilderImpl implements RestClientBuilder {
     }
 
     /**
-     * Get the users list of proxy hosts. Translate list to regex format
+     * Get the users list of proxy hosts translated to regex patterns. The patterns are cached for the current value of
+     * the {@code http.nonProxyHosts} system property.
      *
-     * @return list of proxy hosts
+     * @return list of proxy host patterns
      */
-    private List<String> getProxyHostsAsRegex() {
-        String noProxyHostsSysProps = getSystemProperty("http.nonProxyHosts", null);
-        if (noProxyHostsSysProps == null) {
-            noProxyHostsSysProps = "localhost|127.*|[::1]";
-        } else {
-            String src2 = noProxyHostsSysProps.replace(".", "\\.");
-            noProxyHostsSysProps = src2.replace("*", "[A-Za-z0-9-]*");
+    static List<Pattern> getNonProxyHostPatterns() {
+        final String value = getSystemProperty("http.nonProxyHosts", null);
+        // The patterns are only compiled again if the system property was changed
+        final NonProxyHosts cached = nonProxyHosts;
+        if (cached != null && Objects.equals(cached.value, value)) {
+            return cached.patterns;
         }
-        return Arrays.asList(noProxyHostsSysProps.split("\\|"));
+        final NonProxyHosts result = new NonProxyHosts(value);
+        nonProxyHosts = result;
+        return result.patterns;
     }
 
     /**
@@ -429,14 +889,279 @@ public class RestClientBuilderImpl implements RestClientBuilder {
         return useURLConnection;
     }
 
-    private Optional<InetSocketAddress> selectHttpProxy() {
+    /**
+     * Creates the limiter of the concurrent requests if it is enabled for the client.
+     *
+     * @param aClass the client interface
+     *
+     * @return the limiter or {@code null} if the requests are not limited
+     */
+    private ConcurrencyLimiter createLimiter(final Class<?> aClass) {
+        if (!getClientOption(aClass, LIMITER_ENABLED, Boolean.class).orElse(false)) {
+            return null;
+        }
+        return new ConcurrencyLimiter(aClass.getName(),
+                getClientOption(aClass, LIMITER_INITIAL_LIMIT, Integer.class).orElse(20),
+                getClientOption(aClass, LIMITER_MIN_LIMIT, Integer.class).orElse(1),
+                getClientOption(aClass, LIMITER_MAX_LIMIT, Integer.class).orElse(200));
+    }
+
+    /**
+     * Creates the scheduler of the requests if it is enabled for the client.
+     *
+     * @param aClass  the client interface
+     * @param limiter the adaptive limiter of the client or {@code null} if it is not enabled
+     *
+     * @return the scheduler or {@code null} if the requests are not scheduled
+     */
+    private RequestScheduler createScheduler(final Class<?> aClass, final ConcurrencyLimiter limiter) {
+        if (!getClientOption(aClass, SCHEDULER_ENABLED, Boolean.class).orElse(false)) {
+            return null;
+        }
+        final ConcurrencyLimiter actualLimiter;
+        if (limiter == null) {
+            final int maxConcurrent = getClientOption(aClass, SCHEDULER_MAX_CONCURRENT, Integer.class).orElse(20);
+            actualLimiter = new ConcurrencyLimiter(aClass.getName(), maxConcurrent, maxConcurrent, maxConcurrent);
+        } else {
+            actualLimiter = limiter;
+        }
+        return new RequestScheduler(aClass.getName(), actualLimiter,
+                getClientOption(aClass, SCHEDULER_QUEUE_SIZE, Integer.class).orElse(100),
+                getClientOption(aClass, SCHEDULER_PRIORITY, Integer.class).orElse(RequestPriority.DEFAULT));
+    }
+
+    /**
+     * Creates the limiter of the rate of the requests if a rate limit is set for the client.
+     *
+     * @param aClass the client interface
+     *
+     * @return the limiter or {@code null} if the rate is not limited
+     */
+    private RateLimiter createRateLimiter(final Class<?> aClass) {
+        final Optional<Double> rate = getClientOption(aClass, RATE_LIMIT, Double.class);
+        if (rate.isEmpty()) {
+            return null;
+        }
+        return new RateLimiter(aClass.getName(), rate.get(),
+                getClientOption(aClass, RATE_LIMIT_BURST, Integer.class).orElse(Math.max(1, rate.get().intValue())),
+                getClientOption(aClass, RATE_LIMIT_MAX_WAIT, Long.class).orElse(5_000L));
+    }
+
+    /**
+     * Creates the hedging policy if the client has hedged methods.
+     *
+     * @param aClass the client interface
+     *
+     * @return the policy or {@code null} if no method is hedged
+     */
+    private RequestHedging createHedging(final Class<?> aClass) {
+        final boolean safeMethods = getClientOption(aClass, HEDGING_ENABLED, Boolean.class).orElse(false);
+        if (!safeMethods && !aClass.isAnnotationPresent(Hedged.class)
+                && Arrays.stream(aClass.getMethods()).noneMatch(m -> m.isAnnotationPresent(Hedged.class))) {
+            return null;
+        }
+        return new RequestHedging(safeMethods, getClientOption(aClass, HEDGING_PERCENTILE, Double.class).orElse(95.0),
+                getClientOption(aClass, HEDGING_BUDGET, Double.class).orElse(10.0));
+    }
+
+    /**
+     * Resolves the timeouts of a method of the client, or of one of its sub-resources. The MicroProfile Config
+     * properties {@code <fully-qualified-interface-name>/mp-rest/methods/<method>/connectTimeout} and
+     * {@code .../readTimeout}, or the same properties with the {@code configKey}, take precedence over the
+     * {@link RequestTimeout} annotation. The method is identified by its signature, e.g.
+     * {@code get(java.lang.String,int)}, or by its name for all methods of the name.
+     *
+     * @param config the configuration, may be {@code null}
+     * @param aClass the client interface
+     * @param method the invoked method
+     *
+     * @return the timeouts of the method or {@code null} if it has none
+     */
+    private static RequestTimeouts resolveRequestTimeouts(final Config config, final Class<?> aClass,
+            final Method method) {
+        if (method.isDefault() || Modifier.isStatic(method.getModifiers())) {
+            return null;
+        }
+        final RequestTimeout annotation = method.getAnnotation(RequestTimeout.class);
+        final long connectTimeout = getMethodOption(config, aClass, method, "connectTimeout")
+                .orElse(annotation == null ? -1 : annotation.connectTimeout());
+        final long readTimeout = getMethodOption(config, aClass, method, "readTimeout")
+                .orElse(annotation == null ? -1 : annotation.readTimeout());
+        if (connectTimeout >= 0 || readTimeout >= 0) {
+            return new RequestTimeouts(connectTimeout, readTimeout);
+        }
+        return null;
+    }
+
+    private static Optional<Long> getMethodOption(final Config config, final Class<?> aClass, final Method method,
+            final String option) {
+        if (config == null) {
+            return Optional.empty();
+        }
+        final RegisterRestClient registerRestClient = aClass.getAnnotation(RegisterRestClient.class);
+        final String configKey = registerRestClient == null || registerRestClient.configKey().isEmpty() ? null
+                : registerRestClient.configKey();
+        // The signature of the method takes precedence over the name, which applies to all overloads
+        final String signature = Arrays.stream(method.getParameterTypes())
+                .map(Class::getTypeName)
+                .collect(Collectors.joining(",", method.getName() + "(", ")"));
+        for (String name : List.of(signature, method.getName())) {
+            final String suffix = "/mp-rest/methods/" + name + "/" + option;
+            Optional<Long> result = config.getOptionalValue(aClass.getName() + suffix, Long.class);
+            if (result.isEmpty() && configKey != null) {
+                result = config.getOptionalValue(configKey + suffix, Long.class);
+            }
+            if (result.isPresent()) {
+                return result;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Creates the coalescer of identical invocations if it is enabled for the client.
+     *
+     * @param aClass the client interface
+     *
+     * @return the coalescer or {@code null} if invocations are not coalesced
+     */
+    private RequestCoalescer createCoalescer(final Class<?> aClass) {
+        if (!getClientOption(aClass, COALESCING_ENABLED, Boolean.class).orElse(false)) {
+            return null;
+        }
+        return new RequestCoalescer(getHeadersOption(aClass, COALESCING_HEADERS));
+    }
+
+    /**
+     * Creates the load balancer if the client has multiple endpoints.
+     *
+     * @param aClass the client interface
+     *
+     * @return the load balancer or {@code null} if no endpoints are configured
+     */
+    private LoadBalancer createLoadBalancer(final Class<?> aClass) {
+        final EndpointSupplier supplier;
+        final Object value = getConfiguration().getProperty(ENDPOINTS_SUPPLIER);
+        if (value instanceof EndpointSupplier) {
+            supplier = (EndpointSupplier) value;
+        } else {
+            final Optional<String> className = getClientOption(aClass, ENDPOINTS_SUPPLIER, String.class);
+            if (className.isPresent()) {
+                try {
+                    supplier = (EndpointSupplier) newInstanceOf(
+                            Class.forName(className.get().trim(), true, getClassLoader(aClass)));
+                } catch (ClassNotFoundException | ClassCastException e) {
+                    throw new IllegalArgumentException(String.format("Invalid endpoint supplier %s for %s",
+                            className.get(), aClass.getName()), e);
+                }
+            } else {
+                final Optional<String> endpoints = getClientOption(aClass, ENDPOINTS, String.class);
+                if (endpoints.isEmpty()) {
+                    return null;
+                }
+                final List<URI> uris = Arrays.stream(endpoints.get().split(","))
+                        .map(String::trim)
+                        .filter(endpoint -> !endpoint.isEmpty())
+                        .map(URI::create)
+                        .collect(Collectors.toUnmodifiableList());
+                supplier = () -> uris;
+            }
+        }
+        final String policy = getClientOption(aClass, ENDPOINTS_POLICY, String.class).orElse("power-of-two-choices");
+        final LoadBalancer.Policy actualPolicy;
+        if ("power-of-two-choices".equals(policy)) {
+            actualPolicy = LoadBalancer.Policy.POWER_OF_TWO_CHOICES;
+        } else if ("least-outstanding".equals(policy)) {
+            actualPolicy = LoadBalancer.Policy.LEAST_OUTSTANDING;
+        } else {
+            throw new IllegalArgumentException(String.format("Unknown endpoint policy %s for %s", policy,
+                    aClass.getName()));
+        }
+        return new LoadBalancer(aClass.getName(), supplier, actualPolicy,
+                getClientOption(aClass, ENDPOINTS_FAILURE_THRESHOLD, Integer.class).orElse(5),
+                getClientOption(aClass, ENDPOINTS_EJECTION_TIME, Long.class).orElse(30_000L));
+    }
+
+    /**
+     * Configures a connection pool for the default engine, if none is configured. Without a pool the engine only keeps
+     * a single connection, which is closed whenever a request is sent to another address.
+     */
+    private static void usePooledConnections(final ResteasyClientBuilder builder) {
+        if (builder.getConnectionPoolSize() <= 0) {
+            builder.connectionPoolSize(50);
+        }
+    }
+
+    /**
+     * Creates the DNS cache if it is enabled for the client.
+     *
+     * @param aClass the client interface
+     *
+     * @return the cache or {@code null} if the host names are resolved for each connection
+     */
+    private DnsCache createDnsCache(final Class<?> aClass) {
+        if (!getClientOption(aClass, DNS_CACHE, Boolean.class).orElse(false)) {
+            return null;
+        }
+        final long ttl = getClientOption(aClass, DNS_TTL, Long.class).orElse(30_000L);
+        final Object value = getConfiguration().getProperty(DNS_RESOLVER);
+        if (value instanceof HostResolver) {
+            return new DnsCache((HostResolver) value, ttl);
+        }
+        final Optional<String> className = getClientOption(aClass, DNS_RESOLVER, String.class);
+        if (className.isPresent()) {
+            try {
+                return new DnsCache((HostResolver) newInstanceOf(
+                        Class.forName(className.get().trim(), true, getClassLoader(aClass))), ttl);
+            } catch (ClassNotFoundException | ClassCastException e) {
+                throw new IllegalArgumentException(String.format("Invalid host resolver %s for %s", className.get(),
+                        aClass.getName()), e);
+            }
+        }
+        return getClientOption(aClass, DNS_SHARED, Boolean.class).orElse(true) ? DnsCache.shared(ttl)
+                : new DnsCache(HostResolver.SYSTEM, ttl);
+    }
+
+    /**
+     * Resolves an option with comma separated header names.
+     *
+     * @param aClass the client interface
+     * @param name   the full name of the option
+     *
+     * @return the header names, by default {@code Authorization} and {@code Cookie}
+     */
+    private List<String> getHeadersOption(final Class<?> aClass, final String name) {
+        final String headers = getClientOption(aClass, name, String.class)
+                .orElse(HttpHeaders.AUTHORIZATION + "," + HttpHeaders.COOKIE);
+        return Arrays.stream(headers.split(","))
+                .map(String::trim)
+                .filter(header -> !header.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the name of the engine to use, see {@link #ENGINE}.
+     */
+    private String selectEngine(final Class<?> aClass, final URI uri) {
+        final Optional<String> engine = getClientOption(aClass, ENGINE, String.class);
+        if (engine.isPresent()) {
+            return engine.get();
+        }
+        if (getClientOption(aClass, LOOPBACK_AUTO, Boolean.class).orElse(false)
+                && LoopbackClientEngine.forCurrentDeployment().map(e -> e.isLocal(uri)).orElse(false)) {
+            return "loopback";
+        }
+        return useURLConnection() ? "url-connection" : "default";
+    }
+
+    private Optional<InetSocketAddress> selectHttpProxy(final URI uri) {
         final ProxySelector selector;
         if (System.getSecurityManager() == null) {
             selector = ProxySelector.getDefault();
         } else {
             selector = AccessController.doPrivileged((PrivilegedAction<ProxySelector>) ProxySelector::getDefault);
         }
-        return selector.select(baseURI).stream()
+        return selector.select(uri).stream()
                 .filter(proxy -> proxy.type() == java.net.Proxy.Type.HTTP)
                 .map(java.net.Proxy::address)
                 .map(InetSocketAddress.class::cast)
@@ -509,6 +1234,101 @@ public class RestClientBuilderImpl implements RestClientBuilder {
         }
     }
 
+    /**
+     * Resolves a RESTEasy specific option for the client being built. A value set with
+     * {@link #property(String, Object)} takes precedence. Otherwise the MicroProfile Config properties
+     * {@code <fully-qualified-interface-name>/mp-rest/<option>} and {@code <configKey>/mp-rest/<option>} are checked,
+     * where the option is the name without the {@value #CLIENT_OPTION_PREFIX} prefix. Finally the global MicroProfile
+     * Config property with the full name is checked.
+     *
+     * @param aClass the client interface
+     * @param name   the full name of the option
+     * @param type   the type of the option
+     *
+     * @return the value of the option or an empty optional
+     */
+    <V> Optional<V> getClientOption(final Class<?> aClass, final String name, final Class<V> type) {
+        final Object value = builderDelegate.getConfiguration().getProperty(name);
+        if (type.isInstance(value)) {
+            return Optional.of(type.cast(value));
+        }
+        if (value != null) {
+            return Optional.of(convertOption(name, value.toString(), type));
+        }
+        if (config == null) {
+            return Optional.empty();
+        }
+        final String option = name.startsWith(CLIENT_OPTION_PREFIX) ? name.substring(CLIENT_OPTION_PREFIX.length()) : name;
+        Optional<V> result = config.getOptionalValue(aClass.getName() + "/mp-rest/" + option, type);
+        if (result.isPresent()) {
+            return result;
+        }
+        final RegisterRestClient registerRestClient = aClass.getAnnotation(RegisterRestClient.class);
+        if (registerRestClient != null && !registerRestClient.configKey().isEmpty()) {
+            result = config.getOptionalValue(registerRestClient.configKey() + "/mp-rest/" + option, type);
+            if (result.isPresent()) {
+                return result;
+            }
+        }
+        return config.getOptionalValue(name, type);
+    }
+
+    /**
+     * Resolves a RESTEasy specific option shared by all clients of the deployment. Only the global MicroProfile Config
+     * property with the full name is checked.
+     *
+     * @param name the full name of the option
+     * @param type the type of the option
+     *
+     * @return the value of the option or an empty optional
+     */
+    private <V> Optional<V> getGlobalOption(final String name, final Class<V> type) {
+        return config == null ? Optional.empty() : config.getOptionalValue(name, type);
+    }
+
+    private static <V> V convertOption(final String name, final String value, final Class<V> type) {
+        final Object result;
+        if (type == String.class) {
+            result = value;
+        } else if (type == Boolean.class) {
+            result = Boolean.valueOf(value.trim());
+        } else if (type == Integer.class) {
+            result = Integer.valueOf(value.trim());
+        } else if (type == Long.class) {
+            result = Long.valueOf(value.trim());
+        } else if (type == Double.class) {
+            result = Double.valueOf(value.trim());
+        } else {
+            throw new IllegalArgumentException(String.format("The value %s of option %s is not of type %s", value, name,
+                    type.getName()));
+        }
+        return type.cast(result);
+    }
+
+    private boolean useVirtualThreads(final Class<?> aClass) {
+        if (getClientOption(aClass, VIRTUAL_THREADS, Boolean.class).orElse(false)) {
+            if (VirtualThreads.isSupported()) {
+                return true;
+            }
+            LOGGER.warnf("Virtual threads are not supported by the JVM, the %s option is ignored for %s",
+                    VIRTUAL_THREADS, aClass.getName());
+        }
+        return false;
+    }
+
+    private static int defaultExecutorOption(final String name) {
+        switch (name) {
+            case EXECUTOR_MAX_THREADS:
+                return Math.max(16, Runtime.getRuntime().availableProcessors() * 2);
+            case EXECUTOR_QUEUE_SIZE:
+                return 1024;
+            case EXECUTOR_KEEP_ALIVE:
+                return 60;
+            default:
+                throw new IllegalArgumentException("Unknown executor option " + name);
+        }
+    }
+
     private boolean isMapperDisabled() {
         boolean disabled = false;
         Optional<Boolean> defaultMapperProp = config == null ? Optional.empty()
@@ -535,7 +1355,7 @@ public class RestClientBuilderImpl implements RestClientBuilder {
         return disabled;
     }
 
-    private String getReflectName(AnnotatedElement element) {
+    private static String getReflectName(AnnotatedElement element) {
         if (element instanceof Parameter) {
             return ((Parameter) element).getName();
         } else if (element instanceof Field) {
@@ -549,7 +1369,7 @@ public class RestClientBuilderImpl implements RestClientBuilder {
         return null;
     }
 
-    private String getPathParamName(AnnotatedElement element) {
+    private static String getPathParamName(AnnotatedElement element) {
         if (element.isAnnotationPresent(PathParam.class)) {
             PathParam pp = element.getAnnotation(PathParam.class);
             return pp.value();
@@ -563,7 +1383,7 @@ public class RestClientBuilderImpl implements RestClientBuilder {
         return null;
     }
 
-    private void verifyBeanPathParam(Class<?> beanType, Map<String, Object> paramMap) {
+    private static void verifyBeanPathParam(Class<?> beanType, Map<String, Object> paramMap) {
         for (Field field : beanType.getDeclaredFields()) {
             String name = getPathParamName(field);
             if (name != null) {
@@ -580,7 +1400,7 @@ public class RestClientBuilderImpl implements RestClientBuilder {
         }
     }
 
-    private <T> void verifyInterface(Class<T> typeDef) {
+    private static <T> void verifyInterface(Class<T> typeDef) {
 
         final Method[] methods = resolveMethods(typeDef);
 
@@ -597,6 +1417,9 @@ public class RestClientBuilderImpl implements RestClientBuilder {
             }
         }
 
+        // invalid batch methods
+        verifyBatchMethods(methods);
+
         // invalid parameter
         Path classPathAnno = typeDef.getAnnotation(Path.class);
 
@@ -836,7 +1659,7 @@ public class RestClientBuilderImpl implements RestClientBuilder {
         }
     }
 
-    private String getSystemProperty(String key, String def) {
+    private static String getSystemProperty(String key, String def) {
         if (System.getSecurityManager() == null) {
             return System.getProperty(key, def);
         }
@@ -853,6 +1676,21 @@ public class RestClientBuilderImpl implements RestClientBuilder {
         return type.getMethods();
     }
 
+    private static void verifyBatchMethods(final Method[] methods) {
+        for (Method method : methods) {
+            InvocationPlan.resolveBatchMethod(method);
+        }
+    }
+
+    private static boolean isVerifiedAtCompileTime(final Class<?> type) {
+        try {
+            Class.forName(type.getName() + VERIFIED_SUFFIX, false, getClassLoader(type));
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
     private static ClassLoader getClassLoader(final Class<?> type) {
         if (System.getSecurityManager() == null) {
             return type.getClassLoader();
@@ -892,4 +1730,25 @@ public class RestClientBuilderImpl implements RestClientBuilder {
     private final Collection<AsyncInvocationInterceptorFactory> invocationInterceptorFactories = new ArrayList<>();
 
     private final BeanManager beanManager;
+
+    /**
+     * The compiled patterns of the {@code http.nonProxyHosts} system property.
+     */
+    private static final class NonProxyHosts {
+        private final String value;
+        private final List<Pattern> patterns;
+
+        private NonProxyHosts(final String value) {
+            this.value = value;
+            final String regex;
+            if (value == null) {
+                regex = "localhost|127.*|[::1]";
+            } else {
+                regex = value.replace(".", "\\.").replace("*", "[A-Za-z0-9-]*");
+            }
+            this.patterns = Stream.of(regex.split("\\|"))
+                    .map(Pattern::compile)
+                    .collect(Collectors.toUnmodifiableList());
+        }
+    }
 }
@@ -295,14 +295,30 @@ public class RestClientDelegateBean<T> implements Bean<T>, PassivationCapable {
         Optional<String> baseUrlFromConfig = getOptionalProperty(REST_URL_FORMAT, String.class);
 
         if (baseUriFromConfig.isPresent()) {
-            builder.baseUri(uriFromString(baseUriFromConfig.get()));
+            builder.baseUri(uriFromString(configureEndpoints(builder, baseUriFromConfig.get())));
         } else if (baseUrlFromConfig.isPresent()) {
-            builder.baseUrl(urlFromString(baseUrlFromConfig, baseUrlFromConfig.get()));
+            builder.baseUrl(urlFromString(baseUrlFromConfig, configureEndpoints(builder, baseUrlFromConfig.get())));
         } else {
             baseUri.ifPresent(uri -> builder.baseUri(uriFromString(uri)));
         }
     }
 
+    /**
+     * Configures the endpoints of the client if the value contains comma separated base URIs.
+     *
+     * @return the first base URI, the requests are built against it
+     */
+    private static String configureEndpoints(RestClientBuilder builder, String value) {
+        String[] endpoints = Stream.of(value.split(","))
+                .map(String::trim)
+                .filter(endpoint -> !endpoint.isEmpty())
+                .toArray(String[]::new);
+        if (endpoints.length > 1) {
+            builder.property(RestClientBuilderImpl.ENDPOINTS, String.join(",", endpoints));
+        }
+        return endpoints.length == 0 ? value : endpoints[0];
+    }
+
     private <T> Optional<T> getOptionalProperty(String propertyFormat, Class<T> type) {
         Optional<T> value = config.getOptionalValue(String.format(propertyFormat, proxyType.getName()), type);
         if (value.isPresent() || !configKey.isPresent())
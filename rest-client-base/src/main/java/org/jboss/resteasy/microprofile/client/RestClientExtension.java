@@ -36,6 +36,7 @@ import jakarta.enterprise.inject.spi.AfterBeanDiscovery;
 import jakarta.enterprise.inject.spi.AfterDeploymentValidation;
 import jakarta.enterprise.inject.spi.Bean;
 import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.enterprise.inject.spi.BeforeShutdown;
 import jakarta.enterprise.inject.spi.CDI;
 import jakarta.enterprise.inject.spi.Extension;
 import jakarta.enterprise.inject.spi.ProcessAnnotatedType;
@@ -107,6 +108,15 @@ public class RestClientExtension implements Extension {
         }
     }
 
+    /**
+     * Shuts down the executor shared by the clients of the deployment.
+     *
+     * @param event the before shutdown event
+     */
+    public void shutdownExecutor(@Observes final BeforeShutdown event) {
+        SharedClientExecutors.shutdown(SecurityActions.getClassLoader(RestClientExtension.class));
+    }
+
     /**
      * Observes ProcessSessionBean events and creates a (Bean class {@literal ->} Local
      * interface) map for Session beans with local interfaces. This map is
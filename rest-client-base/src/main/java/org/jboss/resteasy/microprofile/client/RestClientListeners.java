@@ -19,6 +19,7 @@
 
 package org.jboss.resteasy.microprofile.client;
 
+import java.lang.ref.WeakReference;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.Collection;
@@ -42,21 +43,44 @@ public class RestClientListeners {
     private static final Map<ClassLoader, Collection<RestClientListener>> map = Collections
             .synchronizedMap(new WeakHashMap<>());
 
+    /**
+     * The listeners of the last class loader looked up. This avoids the synchronized lookup in the common case where
+     * all clients are built from the same class loader. Only the class loader is referenced weakly, the listeners are
+     * the same instances as the values of the map.
+     */
+    private static volatile LastLookup last;
+
     public static Collection<RestClientListener> get() {
         ClassLoader loader = SecurityActions.getClassLoader(RestClientListeners.class);
         if (loader == null) {
             return Collections.emptyList();
         }
+        final LastLookup lastLookup = last;
+        if (lastLookup != null && lastLookup.loader.get() == loader) {
+            return lastLookup.listeners;
+        }
         final PrivilegedAction<Collection<RestClientListener>> action = () -> ServiceLoader
                 .load(RestClientListener.class, loader)
                 .stream()
                 .map(ServiceLoader.Provider::get)
                 .collect(Collectors.toUnmodifiableList());
-        return map.computeIfAbsent(loader, classLoader -> {
+        final Collection<RestClientListener> listeners = map.computeIfAbsent(loader, classLoader -> {
             if (System.getSecurityManager() == null) {
                 return action.run();
             }
             return AccessController.doPrivileged(action);
         });
+        last = new LastLookup(loader, listeners);
+        return listeners;
+    }
+
+    private static class LastLookup {
+        private final WeakReference<ClassLoader> loader;
+        private final Collection<RestClientListener> listeners;
+
+        private LastLookup(final ClassLoader loader, final Collection<RestClientListener> listeners) {
+            this.loader = new WeakReference<>(loader);
+            this.listeners = listeners;
+        }
     }
 }
@@ -19,8 +19,14 @@
 
 package org.jboss.resteasy.microprofile.client;
 
+import java.util.Optional;
+
 import jakarta.ws.rs.client.Client;
 
+import org.jboss.resteasy.microprofile.client.limit.ConcurrencyLimiter;
+import org.jboss.resteasy.microprofile.client.limit.RateLimiter;
+import org.jboss.resteasy.microprofile.client.limit.RequestScheduler;
+
 /**
  * This interface is implemented by every proxy created by {@link RestClientBuilderImpl}.
  */
@@ -36,4 +42,28 @@ public interface RestClientProxy {
      */
     Client getClient();
 
+    /**
+     * @return the limiter of the concurrent requests, or an empty optional if the
+     *         {@linkplain RestClientBuilderImpl#LIMITER_ENABLED limiter} is not enabled for the client
+     */
+    default Optional<ConcurrencyLimiter> getConcurrencyLimiter() {
+        return Optional.empty();
+    }
+
+    /**
+     * @return the scheduler of the requests, or an empty optional if the
+     *         {@linkplain RestClientBuilderImpl#SCHEDULER_ENABLED scheduler} is not enabled for the client
+     */
+    default Optional<RequestScheduler> getRequestScheduler() {
+        return Optional.empty();
+    }
+
+    /**
+     * @return the limiter of the rate of the requests, or an empty optional if the
+     *         {@linkplain RestClientBuilderImpl#RATE_LIMIT rate limit} is not set for the client
+     */
+    default Optional<RateLimiter> getRateLimiter() {
+        return Optional.empty();
+    }
+
 }
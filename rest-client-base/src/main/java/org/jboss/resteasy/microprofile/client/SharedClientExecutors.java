@@ -0,0 +1,157 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.concurrent.ContextualExecutorService;
+import org.jboss.resteasy.concurrent.ContextualExecutors;
+import org.jboss.resteasy.microprofile.client.utils.VirtualThreads;
+
+/**
+ * The default executors shared by all clients of a deployment which were not configured with an executor.
+ * <p>
+ * If the environment provides a managed executor, the managed executor is used. Otherwise, a bounded thread pool with
+ * named daemon threads is created for the deployment. The deployment is identified by its class loader. The thread pool
+ * is shut down with the deployment, not with the clients using it.
+ * </p>
+ * <p>
+ * Tasks which block a thread for the lifetime of a stream, e.g. reading server-sent events, must not use the bounded
+ * pool. A few open streams would otherwise occupy all threads and the invocations of all clients would wait in the
+ * queue. These tasks use a separate, unbounded, stream executor.
+ * </p>
+ */
+final class SharedClientExecutors {
+    private static final Logger LOGGER = Logger.getLogger(SharedClientExecutors.class);
+    private static final AtomicInteger POOL_COUNTER = new AtomicInteger();
+
+    /**
+     * The shared executors for each deployment. Weak keys are used to remove entries when class loaders are garbage
+     * collected.
+     */
+    private static final Map<ClassLoader, ContextualExecutorService> EXECUTORS = Collections
+            .synchronizedMap(new WeakHashMap<>());
+    private static final Map<ClassLoader, ContextualExecutorService> STREAM_EXECUTORS = Collections
+            .synchronizedMap(new WeakHashMap<>());
+
+    private SharedClientExecutors() {
+    }
+
+    /**
+     * Returns the shared executor of the deployment, creating it if required. The executor must not be shut down by
+     * the client.
+     *
+     * @param options resolves the value of the executor options, see {@link RestClientBuilderImpl#EXECUTOR_MAX_THREADS},
+     *                    {@link RestClientBuilderImpl#EXECUTOR_QUEUE_SIZE} and
+     *                    {@link RestClientBuilderImpl#EXECUTOR_KEEP_ALIVE}
+     *
+     * @return the shared executor
+     */
+    static ContextualExecutorService get(final Function<String, Integer> options) {
+        final ClassLoader loader = SecurityActions.getClassLoader(SharedClientExecutors.class);
+        return EXECUTORS.computeIfAbsent(loader, cl -> create(options));
+    }
+
+    /**
+     * Returns the shared stream executor of the deployment, creating it if required. The executor is not bounded, a
+     * virtual thread is used for each task if supported. The executor must not be shut down by the client.
+     *
+     * @return the shared stream executor
+     */
+    static ContextualExecutorService getStreamExecutor() {
+        final ClassLoader loader = SecurityActions.getClassLoader(SharedClientExecutors.class);
+        return STREAM_EXECUTORS.computeIfAbsent(loader, cl -> createStreamExecutor());
+    }
+
+    /**
+     * Shuts down the shared executors of the deployment, if they were created.
+     *
+     * @param loader the class loader of the deployment
+     */
+    static void shutdown(final ClassLoader loader) {
+        shutdown(EXECUTORS.remove(loader));
+        shutdown(STREAM_EXECUTORS.remove(loader));
+    }
+
+    private static void shutdown(final ContextualExecutorService executor) {
+        if (executor != null && !executor.isManaged()) {
+            LOGGER.debugf("Shutting down the shared client executor %s", executor);
+            executor.shutdown();
+        }
+    }
+
+    private static ContextualExecutorService create(final Function<String, Integer> options) {
+        final ContextualExecutorService threadPool = ContextualExecutors.threadPool();
+        if (threadPool.isManaged()) {
+            return threadPool;
+        }
+        // Not a managed executor, replace the unbounded pool with a bounded one
+        threadPool.shutdown();
+        final int maxThreads = options.apply(RestClientBuilderImpl.EXECUTOR_MAX_THREADS);
+        final int queueSize = options.apply(RestClientBuilderImpl.EXECUTOR_QUEUE_SIZE);
+        final int keepAlive = options.apply(RestClientBuilderImpl.EXECUTOR_KEEP_ALIVE);
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreads, maxThreads, keepAlive, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueSize),
+                new NamedThreadFactory("rest-client-pool-" + POOL_COUNTER.incrementAndGet() + "-thread-"));
+        executor.allowCoreThreadTimeOut(true);
+        LOGGER.debugf("Created the shared client executor with %d threads and a queue size of %d", maxThreads, queueSize);
+        return ContextualExecutors.wrap(executor);
+    }
+
+    private static ContextualExecutorService createStreamExecutor() {
+        final ContextualExecutorService threadPool = ContextualExecutors.threadPool();
+        if (threadPool.isManaged()) {
+            return threadPool;
+        }
+        threadPool.shutdown();
+        if (VirtualThreads.isSupported()) {
+            return ContextualExecutors.wrap(VirtualThreads.newExecutor());
+        }
+        return ContextualExecutors.wrap(Executors.newCachedThreadPool(
+                new NamedThreadFactory("rest-client-stream-" + POOL_COUNTER.incrementAndGet() + "-thread-")));
+    }
+
+    private static class NamedThreadFactory implements ThreadFactory {
+        private final String prefix;
+        private final AtomicInteger counter;
+
+        private NamedThreadFactory(final String prefix) {
+            this.prefix = prefix;
+            this.counter = new AtomicInteger();
+        }
+
+        @Override
+        public Thread newThread(final Runnable r) {
+            final Thread thread = new Thread(r, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
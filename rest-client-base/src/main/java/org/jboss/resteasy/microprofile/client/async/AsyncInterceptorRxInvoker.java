@@ -20,19 +20,39 @@
 package org.jboss.resteasy.microprofile.client.async;
 
 import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.ProcessingException;
 import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.client.ResponseProcessingException;
 import jakarta.ws.rs.client.SyncInvoker;
 import jakarta.ws.rs.core.GenericType;
 import jakarta.ws.rs.core.Response;
 
+import org.jboss.resteasy.client.jaxrs.internal.ClientInvocation;
 import org.jboss.resteasy.client.jaxrs.internal.ClientInvocationBuilder;
 import org.jboss.resteasy.client.jaxrs.internal.CompletionStageRxInvokerImpl;
-import org.jboss.resteasy.core.SynchronousDispatcher;
+import org.jboss.resteasy.core.ResteasyContext;
 import org.jboss.resteasy.microprofile.client.ExceptionMapping;
+import org.jboss.resteasy.microprofile.client.deadline.Deadline;
+import org.jboss.resteasy.microprofile.client.deadline.DeadlineExceededException;
+import org.jboss.resteasy.microprofile.client.engine.ApacheClientHttpEngineBuilder;
+import org.jboss.resteasy.microprofile.client.engine.JavaHttpClientEngine;
+import org.jboss.resteasy.microprofile.client.hedging.RequestHedging;
 
 /**
  * @author <a href="mailto:bburke@redhat.com">Bill Burke</a>
@@ -40,179 +60,324 @@ import org.jboss.resteasy.microprofile.client.ExceptionMapping;
  *         <p>
  */
 public class AsyncInterceptorRxInvoker extends CompletionStageRxInvokerImpl {
+    private final ExecutorService executor;
+    private ClientInvocationBuilder builder;
     private Method method;
+    private boolean nonBlocking;
+    private RequestHedging hedging;
 
     public AsyncInterceptorRxInvoker(final SyncInvoker builder, final ExecutorService executor) {
         super(builder, executor);
+        this.executor = executor == null ? ForkJoinPool.commonPool() : executor;
         setupMethod(builder);
     }
 
     public AsyncInterceptorRxInvoker(final SyncInvoker builder) {
-        super(builder);
-        setupMethod(builder);
+        this(builder, null);
     }
 
     private void setupMethod(SyncInvoker builder) {
         // we must capture the method to unwrap the exception
-        method = ((ClientInvocationBuilder) builder).getClientInvocation().getClientInvoker().getMethod();
+        this.builder = (ClientInvocationBuilder) builder;
+        final ClientInvocation invocation = this.builder.getClientInvocation();
+        method = invocation.getClientInvoker().getMethod();
+        // An asynchronous engine completes the invocation from its I/O layer. The AsyncInvocationInterceptor's require
+        // the invocation to complete on the executor, which applies their context.
+        nonBlocking = invocation.getClient().httpEngine() instanceof JavaHttpClientEngine
+                && invocation.getClient().getConfiguration().getInstances().stream()
+                        .noneMatch(AsyncInvocationInterceptorThreadContext.class::isInstance);
+        // The AsyncInvocationInterceptor's expect a single request per invocation
+        final Object hedgingProperty = invocation.getConfiguration().getProperty(RequestHedging.PROPERTY);
+        if (method != null && hedgingProperty instanceof RequestHedging && invocation.getClient().getConfiguration()
+                .getInstances().stream().noneMatch(AsyncInvocationInterceptorThreadContext.class::isInstance)) {
+            hedging = (RequestHedging) hedgingProperty;
+        }
+    }
+
+    private <T> CompletionStage<T> invoke(final String name, final Entity<?> entity, final Class<T> responseType) {
+        return invoke(name, entity, new GenericType<T>(responseType));
+    }
+
+    private <T> CompletionStage<T> invoke(final String name, final Entity<?> entity, final GenericType<T> responseType) {
+        // A stream entity is consumed by the first request, so it cannot be hedged
+        final boolean hedged = hedging != null && RequestHedging.isRepeatable(entity == null ? null : entity.getEntity());
+        final RequestHedging.LatencyStats stats = hedged ? hedging.stats(method, name) : null;
+        final CompletableFuture<T> result = stats != null ? hedge(name, entity, responseType, stats)
+                : attempt(name, entity, responseType);
+        // The response is not waited for beyond the deadline of the caller
+        final Deadline deadline = Deadline.current();
+        return deadline == null ? result : deadline.enforce(result);
+    }
+
+    /**
+     * Invokes the request and, if it did not complete within the delay of the method, a second one. The first response
+     * completes the result and the other request is cancelled. A request failing with a {@link ProcessingException},
+     * for example because the connection failed, does not complete the result while the other one is in flight.
+     */
+    private <T> CompletableFuture<T> hedge(final String name, final Entity<?> entity, final GenericType<T> responseType,
+            final RequestHedging.LatencyStats stats) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final List<CompletableFuture<T>> attempts = new CopyOnWriteArrayList<>();
+        hedging.onRequest();
+        track(result, attempts, attempt(name, entity, responseType), stats);
+        final long delay = stats.getDelay();
+        if (delay >= 0) {
+            // The second request is sent from another thread with the context data of the caller
+            final Map<Class<?>, Object> contextData = new HashMap<>(ResteasyContext.getContextDataMap());
+            CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS, executor).execute(() -> {
+                if (result.isDone() || !hedging.tryHedge()) {
+                    return;
+                }
+                ResteasyContext.pushContextDataMap(contextData);
+                try {
+                    track(result, attempts, attempt(name, entity, responseType), stats);
+                } finally {
+                    ResteasyContext.removeContextDataLevel();
+                }
+            });
+        }
+        // Cancelling the result, or the first response, cancels the requests in flight
+        result.whenComplete((ret, t) -> attempts.forEach(attempt -> attempt.cancel(true)));
+        return result;
+    }
+
+    private static <T> void track(final CompletableFuture<T> result, final List<CompletableFuture<T>> attempts,
+            final CompletableFuture<T> attempt, final RequestHedging.LatencyStats stats) {
+        final long start = System.nanoTime();
+        attempts.add(attempt);
+        if (result.isDone()) {
+            attempt.cancel(true);
+        }
+        attempt.whenComplete((ret, t) -> {
+            if (t == null) {
+                if (result.complete(ret)) {
+                    // Only the latency of the winner is recorded, the other request was cancelled
+                    stats.record(System.nanoTime() - start);
+                } else if (ret instanceof Response) {
+                    ((Response) ret).close();
+                }
+                return;
+            }
+            final Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+            if (cause instanceof CancellationException) {
+                return;
+            }
+            if (cause instanceof ProcessingException && !(cause instanceof ResponseProcessingException)
+                    && attempts.stream().anyMatch(other -> other != attempt && !other.isDone())) {
+                // Wait for the response to the other request
+                return;
+            }
+            result.completeExceptionally(t);
+        });
     }
 
-    private static <T> CompletionStage<T> whenComplete(CompletionStage<T> stage, Method method) {
-
-        return stage.handle((ret, t) -> {
-            if (t != null) {
-                if (t instanceof CompletionException) {
-                    t = t.getCause();
+    /**
+     * Invokes the request asynchronously. The returned stage is not a dependent stage of the invocation, so cancelling
+     * it, or completing it with a {@link TimeoutException} through {@link CompletableFuture#orTimeout} or with a
+     * {@link DeadlineExceededException}, cancels the invocation. A task which has not started yet is not run, a running
+     * task is interrupted and its request to the default engine aborted, and an asynchronous exchange is aborted. A
+     * response received after the cancellation is closed.
+     */
+    private <T> CompletableFuture<T> attempt(final String name, final Entity<?> entity, final GenericType<T> responseType) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final Future<?> exchange;
+        final ApacheClientHttpEngineBuilder.RequestAbort abort;
+        Future<T> future = null;
+        if (nonBlocking) {
+            try {
+                future = builder.build(name, entity).submit(responseType);
+            } catch (RuntimeException e) {
+                complete(result, null, e, method);
+                return result;
+            }
+        }
+        if (future instanceof CompletionStage) {
+            ((CompletionStage<T>) future).whenComplete((ret, t) -> complete(result, ret, t, method));
+            exchange = future;
+            abort = null;
+        } else {
+            final Future<T> submitted = future;
+            // Interrupting the task does not stop a blocking socket read, the request of the default engine is aborted
+            abort = new ApacheClientHttpEngineBuilder.RequestAbort();
+            exchange = executor.submit(() -> {
+                try (ApacheClientHttpEngineBuilder.RequestAbort.Scope ignored = abort.attach()) {
+                    complete(result, submitted == null ? builder.method(name, entity, responseType) : submitted.get(),
+                            null, method);
+                } catch (ExecutionException e) {
+                    complete(result, null, e.getCause(), method);
+                } catch (Throwable t) {
+                    complete(result, null, t, method);
                 }
-                if (t instanceof ExceptionMapping.HandlerException) {
-                    try {
-                        // make sure we map the exception in async mode
-                        ((ExceptionMapping.HandlerException) t).mapException(method);
-                    } catch (Exception e) {
-                        SynchronousDispatcher.rethrow(e);
-                    }
+            });
+        }
+        result.whenComplete((ret, t) -> {
+            if (t instanceof CancellationException || t instanceof TimeoutException
+                    || t instanceof DeadlineExceededException) {
+                exchange.cancel(true);
+                if (abort != null) {
+                    abort.abort();
                 }
-                // don't forget to rethrow
-                SynchronousDispatcher.rethrow(t);
             }
-            return ret;
         });
+        return result;
+    }
+
+    private static <T> void complete(final CompletableFuture<T> result, final T ret, Throwable t, final Method method) {
+        if (t == null) {
+            if (!result.complete(ret) && ret instanceof Response) {
+                // The invocation was cancelled, release the connection
+                ((Response) ret).close();
+            }
+            return;
+        }
+        if (t instanceof CompletionException && t.getCause() != null) {
+            t = t.getCause();
+        }
+        if (t instanceof ExceptionMapping.HandlerException) {
+            try {
+                // make sure we map the exception in async mode
+                ((ExceptionMapping.HandlerException) t).mapException(method);
+            } catch (Exception e) {
+                t = e;
+            }
+        }
+        result.completeExceptionally(new CompletionException(t));
     }
 
     @Override
     public CompletionStage<Response> get() {
-        return whenComplete(super.get(), method);
+        return invoke(HttpMethod.GET, null, Response.class);
     }
 
     @Override
     public <T> CompletionStage<T> get(Class<T> responseType) {
-        return whenComplete(super.get(responseType), method);
+        return invoke(HttpMethod.GET, null, responseType);
     }
 
     @Override
     public <T> CompletionStage<T> get(GenericType<T> responseType) {
-        return whenComplete(super.get(responseType), method);
+        return invoke(HttpMethod.GET, null, responseType);
     }
 
     @Override
     public CompletionStage<Response> put(Entity<?> entity) {
-        return whenComplete(super.put(entity), method);
+        return invoke(HttpMethod.PUT, entity, Response.class);
     }
 
     @Override
     public <T> CompletionStage<T> put(Entity<?> entity, Class<T> clazz) {
-        return whenComplete(super.put(entity, clazz), method);
+        return invoke(HttpMethod.PUT, entity, clazz);
     }
 
     @Override
     public <T> CompletionStage<T> put(Entity<?> entity, GenericType<T> type) {
-        return whenComplete(super.put(entity, type), method);
+        return invoke(HttpMethod.PUT, entity, type);
     }
 
     @Override
     public CompletionStage<Response> post(Entity<?> entity) {
-        return whenComplete(super.post(entity), method);
+        return invoke(HttpMethod.POST, entity, Response.class);
     }
 
     @Override
     public <T> CompletionStage<T> post(Entity<?> entity, Class<T> clazz) {
-        return whenComplete(super.post(entity, clazz), method);
+        return invoke(HttpMethod.POST, entity, clazz);
     }
 
     @Override
     public <T> CompletionStage<T> post(Entity<?> entity, GenericType<T> type) {
-        return whenComplete(super.post(entity, type), method);
+        return invoke(HttpMethod.POST, entity, type);
     }
 
     @Override
     public CompletionStage<Response> delete() {
-        return whenComplete(super.delete(), method);
+        return invoke(HttpMethod.DELETE, null, Response.class);
     }
 
     @Override
     public <T> CompletionStage<T> delete(Class<T> responseType) {
-        return whenComplete(super.delete(responseType), method);
+        return invoke(HttpMethod.DELETE, null, responseType);
     }
 
     @Override
     public <T> CompletionStage<T> delete(GenericType<T> responseType) {
-        return whenComplete(super.delete(responseType), method);
+        return invoke(HttpMethod.DELETE, null, responseType);
     }
 
     @Override
     public CompletionStage<Response> head() {
-        return whenComplete(super.head(), method);
+        return invoke(HttpMethod.HEAD, null, Response.class);
     }
 
     @Override
     public CompletionStage<Response> options() {
-        return whenComplete(super.options(), method);
+        return invoke(HttpMethod.OPTIONS, null, Response.class);
     }
 
     @Override
     public <T> CompletionStage<T> options(Class<T> responseType) {
-        return whenComplete(super.options(responseType), method);
+        return invoke(HttpMethod.OPTIONS, null, responseType);
     }
 
     @Override
     public <T> CompletionStage<T> options(GenericType<T> responseType) {
-        return whenComplete(super.options(responseType), method);
+        return invoke(HttpMethod.OPTIONS, null, responseType);
     }
 
     @Override
     public CompletionStage<Response> trace() {
-        return whenComplete(super.trace(), method);
+        return invoke("TRACE", null, Response.class);
     }
 
     @Override
     public <T> CompletionStage<T> trace(Class<T> responseType) {
-        return whenComplete(super.trace(responseType), method);
+        return invoke("TRACE", null, responseType);
     }
 
     @Override
     public <T> CompletionStage<T> trace(GenericType<T> responseType) {
-        return whenComplete(super.trace(responseType), method);
+        return invoke("TRACE", null, responseType);
     }
 
     @Override
     public CompletionStage<Response> method(String name) {
-        return whenComplete(super.method(name), method);
+        return invoke(name, null, Response.class);
     }
 
     @Override
     public <T> CompletionStage<T> method(String name, Class<T> responseType) {
-        return whenComplete(super.method(name, responseType), method);
+        return invoke(name, null, responseType);
     }
 
     @Override
     public <T> CompletionStage<T> method(String name, GenericType<T> responseType) {
-        return whenComplete(super.method(name, responseType), method);
+        return invoke(name, null, responseType);
     }
 
     @Override
     public CompletionStage<Response> method(String name, Entity<?> entity) {
-        return whenComplete(super.method(name, entity), method);
+        return invoke(name, entity, Response.class);
     }
 
     @Override
     public <T> CompletionStage<T> method(String name, Entity<?> entity, Class<T> responseType) {
-        return whenComplete(super.method(name, entity, responseType), method);
+        return invoke(name, entity, responseType);
     }
 
     @Override
     public <T> CompletionStage<T> method(String name, Entity<?> entity, GenericType<T> responseType) {
-        return whenComplete(super.method(name, entity, responseType), method);
+        return invoke(name, entity, responseType);
     }
 
     public CompletionStage<Response> patch(Entity<?> entity) {
-        return whenComplete(super.patch(entity), method);
+        return invoke(HttpMethod.PATCH, entity, Response.class);
     }
 
     public <T> CompletionStage<T> patch(Entity<?> entity, Class<T> responseType) {
-        return whenComplete(super.patch(entity, responseType), method);
+        return invoke(HttpMethod.PATCH, entity, responseType);
     }
 
     public <T> CompletionStage<T> patch(Entity<?> entity, GenericType<T> responseType) {
-        return whenComplete(super.patch(entity, responseType), method);
+        return invoke(HttpMethod.PATCH, entity, responseType);
     }
 }
@@ -0,0 +1,43 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client.balancing;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * Supplies the endpoints a client spreads its requests across. The supplier is invoked for every request, so it should
+ * return a cached list, which is refreshed in the background if the endpoints are discovered, for example from DNS or
+ * a service registry.
+ * <p>
+ * The requests are built against the base URI of the client and the base URI is then replaced by the URI of the
+ * selected endpoint, so the endpoints may have a different path than the base URI.
+ * </p>
+ */
+@FunctionalInterface
+public interface EndpointSupplier {
+
+    /**
+     * Returns the current endpoints.
+     *
+     * @return the base URIs of the endpoints, an empty list if no endpoint is currently available
+     */
+    List<URI> getEndpoints();
+}
@@ -0,0 +1,337 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client.balancing;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.client.ResponseProcessingException;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Selects the endpoint of each request of a client. The number of requests in flight and the latency are tracked per
+ * endpoint. An endpoint failing a number of consecutive requests, without a response or with a {@code 502},
+ * {@code 503} or {@code 504} response, is ejected for a while. The ejection time grows with each ejection in a row. If
+ * all endpoints are ejected, all endpoints are used again.
+ */
+public final class LoadBalancer {
+    private static final Logger LOGGER = Logger.getLogger(LoadBalancer.class);
+
+    // The weight of a new latency sample
+    private static final double SMOOTHING = 0.2;
+    // The highest multiple of the ejection time an endpoint is ejected for
+    private static final int MAX_EJECTION_MULTIPLIER = 10;
+
+    /**
+     * The policy selecting the endpoint of a request.
+     */
+    public enum Policy {
+        /**
+         * Selects the endpoint with the least requests in flight.
+         */
+        LEAST_OUTSTANDING,
+        /**
+         * Picks two random endpoints and selects the one with the lower latency weighted by the requests in flight.
+         */
+        POWER_OF_TWO_CHOICES
+    }
+
+    private final String name;
+    private final EndpointSupplier supplier;
+    private final Policy policy;
+    private final int failureThreshold;
+    private final long ejectionTime;
+    private volatile Snapshot snapshot;
+
+    /**
+     * Creates a new load balancer.
+     *
+     * @param name             the name used in messages, for example the client interface
+     * @param supplier         the supplier of the endpoints
+     * @param policy           the policy selecting the endpoint of a request
+     * @param failureThreshold the number of consecutive failures an endpoint is ejected after
+     * @param ejectionTime     the time in milliseconds an endpoint is ejected for the first time
+     */
+    public LoadBalancer(final String name, final EndpointSupplier supplier, final Policy policy,
+            final int failureThreshold, final long ejectionTime) {
+        if (failureThreshold < 1 || ejectionTime < 0) {
+            throw new IllegalArgumentException(String.format("Invalid failure threshold %d or ejection time %d for %s",
+                    failureThreshold, ejectionTime, name));
+        }
+        this.name = name;
+        this.supplier = supplier;
+        this.policy = policy;
+        this.failureThreshold = failureThreshold;
+        this.ejectionTime = TimeUnit.MILLISECONDS.toNanos(ejectionTime);
+    }
+
+    /**
+     * Selects the endpoint of a request.
+     *
+     * @return the lease of the endpoint which must be released exactly once when the request completed
+     *
+     * @throws ProcessingException if the supplier does not return any endpoint
+     */
+    public Lease select() throws ProcessingException {
+        final List<Endpoint> endpoints = getEndpoints();
+        if (endpoints.isEmpty()) {
+            throw new ProcessingException(String.format("No endpoint is available for %s", name));
+        }
+        final long now = System.nanoTime();
+        List<Endpoint> candidates = new ArrayList<>(endpoints.size());
+        for (Endpoint endpoint : endpoints) {
+            if (!endpoint.isEjected(now)) {
+                candidates.add(endpoint);
+            }
+        }
+        if (candidates.isEmpty()) {
+            // Failing over to an ejected endpoint is better than failing all requests
+            candidates = endpoints;
+        }
+        final Endpoint selected = policy == Policy.LEAST_OUTSTANDING ? leastOutstanding(candidates)
+                : powerOfTwoChoices(candidates);
+        selected.inFlight.incrementAndGet();
+        return new Lease(selected);
+    }
+
+    /**
+     * Returns the current endpoints with their statistics.
+     *
+     * @return the endpoints in the order of the supplier
+     */
+    public List<Endpoint> getEndpoints() {
+        final List<URI> uris = supplier.getEndpoints();
+        Snapshot current = snapshot;
+        if (current != null && (current.uris == uris || current.uris.equals(uris))) {
+            return current.endpoints;
+        }
+        synchronized (this) {
+            current = snapshot;
+            if (current == null || !current.uris.equals(uris)) {
+                // Keep the statistics of the endpoints which are still supplied
+                final Map<URI, Endpoint> previous = new HashMap<>();
+                if (current != null) {
+                    current.endpoints.forEach(endpoint -> previous.put(endpoint.uri, endpoint));
+                }
+                final List<Endpoint> endpoints = new ArrayList<>(uris.size());
+                for (URI uri : uris) {
+                    final Endpoint endpoint = previous.get(uri);
+                    endpoints.add(endpoint == null ? new Endpoint(uri) : endpoint);
+                }
+                current = new Snapshot(List.copyOf(uris), List.copyOf(endpoints));
+                snapshot = current;
+            }
+            return current.endpoints;
+        }
+    }
+
+    private static Endpoint leastOutstanding(final List<Endpoint> candidates) {
+        // Start at a random endpoint, so ties are spread
+        final int size = candidates.size();
+        final int offset = ThreadLocalRandom.current().nextInt(size);
+        Endpoint selected = null;
+        for (int i = 0; i < size; i++) {
+            final Endpoint endpoint = candidates.get((offset + i) % size);
+            if (selected == null || endpoint.inFlight.get() < selected.inFlight.get()) {
+                selected = endpoint;
+            }
+        }
+        return selected;
+    }
+
+    private static Endpoint powerOfTwoChoices(final List<Endpoint> candidates) {
+        final int size = candidates.size();
+        if (size == 1) {
+            return candidates.get(0);
+        }
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final int first = random.nextInt(size);
+        final int second = (first + 1 + random.nextInt(size - 1)) % size;
+        final Endpoint a = candidates.get(first);
+        final Endpoint b = candidates.get(second);
+        return a.cost() <= b.cost() ? a : b;
+    }
+
+    private static final class Snapshot {
+        private final List<URI> uris;
+        private final List<Endpoint> endpoints;
+
+        private Snapshot(final List<URI> uris, final List<Endpoint> endpoints) {
+            this.uris = uris;
+            this.endpoints = endpoints;
+        }
+    }
+
+    /**
+     * An endpoint and its statistics.
+     */
+    public final class Endpoint {
+        private final URI uri;
+        private final AtomicInteger inFlight;
+        private volatile double latency;
+        private volatile long ejectedUntil;
+
+        // Guarded by this
+        private int failures;
+        private int ejections;
+
+        private Endpoint(final URI uri) {
+            this.uri = uri;
+            this.inFlight = new AtomicInteger();
+        }
+
+        /**
+         * The base URI of the endpoint.
+         *
+         * @return the URI
+         */
+        public URI getUri() {
+            return uri;
+        }
+
+        /**
+         * The number of requests currently in flight.
+         *
+         * @return the number of requests in flight
+         */
+        public int getInFlight() {
+            return inFlight.get();
+        }
+
+        /**
+         * The average latency of the responses.
+         *
+         * @return the latency in nanoseconds, {@code 0} if no response was received yet
+         */
+        public long getLatency() {
+            return (long) latency;
+        }
+
+        /**
+         * Indicates whether the endpoint is currently ejected.
+         *
+         * @return {@code true} if the endpoint is only used when all endpoints are ejected
+         */
+        public boolean isEjected() {
+            return isEjected(System.nanoTime());
+        }
+
+        private boolean isEjected(final long now) {
+            final long until = ejectedUntil;
+            return until != 0 && now - until < 0;
+        }
+
+        private double cost() {
+            // An endpoint without a response yet is preferred, so its latency gets known
+            return latency * (inFlight.get() + 1);
+        }
+
+        private synchronized void onSuccess(final long rtt) {
+            latency = latency == 0 ? rtt : latency + (rtt - latency) * SMOOTHING;
+            failures = 0;
+            ejections = 0;
+            ejectedUntil = 0;
+        }
+
+        private synchronized void onFailure() {
+            if (++failures < failureThreshold) {
+                return;
+            }
+            failures = 0;
+            ejections = Math.min(ejections + 1, MAX_EJECTION_MULTIPLIER);
+            // Zero means not ejected
+            ejectedUntil = (System.nanoTime() + ejectionTime * ejections) | 1;
+            LOGGER.debugf("Ejected the endpoint %s of %s for %d ms", uri, name,
+                    TimeUnit.NANOSECONDS.toMillis(ejectionTime * ejections));
+        }
+    }
+
+    /**
+     * The lease of an endpoint for a single request.
+     */
+    public static final class Lease {
+        private final Endpoint endpoint;
+        private final long start;
+        private final AtomicBoolean released;
+
+        private Lease(final Endpoint endpoint) {
+            this.endpoint = endpoint;
+            this.start = System.nanoTime();
+            this.released = new AtomicBoolean();
+        }
+
+        /**
+         * The base URI of the selected endpoint.
+         *
+         * @return the URI
+         */
+        public URI getUri() {
+            return endpoint.uri;
+        }
+
+        /**
+         * Releases the lease after a response was received. Releasing the lease more than once has no effect.
+         *
+         * @param status the status of the response
+         */
+        public void release(final int status) {
+            if (released.compareAndSet(false, true)) {
+                endpoint.inFlight.decrementAndGet();
+                if (status == 502 || status == 503 || status == 504) {
+                    endpoint.onFailure();
+                } else {
+                    endpoint.onSuccess(Math.max(1, System.nanoTime() - start));
+                }
+            }
+        }
+
+        /**
+         * Releases the lease after the request failed. Releasing the lease more than once has no effect.
+         *
+         * @param error the error the request failed with
+         */
+        public void release(final Throwable error) {
+            if (released.compareAndSet(false, true)) {
+                endpoint.inFlight.decrementAndGet();
+                final Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause()
+                        : error;
+                // A cancelled request says nothing about the endpoint, and a response was received if it could
+                // not be processed
+                if (cause instanceof ProcessingException && !(cause instanceof ResponseProcessingException)) {
+                    endpoint.onFailure();
+                } else if (!(cause instanceof CancellationException)) {
+                    endpoint.onSuccess(Math.max(1, System.nanoTime() - start));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client.balancing;
+
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.client.Invocation;
+import jakarta.ws.rs.client.InvocationCallback;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.resteasy.client.jaxrs.ClientHttpEngine;
+import org.jboss.resteasy.client.jaxrs.engines.AsyncClientHttpEngine;
+import org.jboss.resteasy.client.jaxrs.internal.ClientInvocation;
+
+/**
+ * A {@link ClientHttpEngine} which sends each request to an endpoint selected by a {@link LoadBalancer}. The base URI
+ * of the request is replaced by the base URI of the endpoint and the request is then sent by the delegate engine.
+ * <p>
+ * Use {@link #wrap(ClientHttpEngine, LoadBalancer, URI)} to create the engine, the result is
+ * {@linkplain AsyncClientHttpEngine asynchronous} if the delegate is.
+ * </p>
+ */
+public class LoadBalancingClientEngine implements ClientHttpEngine {
+    private final ClientHttpEngine delegate;
+    private final LoadBalancer loadBalancer;
+    private final String baseUri;
+
+    LoadBalancingClientEngine(final ClientHttpEngine delegate, final LoadBalancer loadBalancer, final URI baseUri) {
+        this.delegate = delegate;
+        this.loadBalancer = loadBalancer;
+        this.baseUri = stripTrailingSlash(baseUri.toString());
+    }
+
+    /**
+     * Creates an engine sending the requests with the delegate.
+     *
+     * @param delegate     the engine sending the requests
+     * @param loadBalancer the load balancer selecting the endpoints
+     * @param baseUri      the base URI the requests are built against
+     *
+     * @return the new engine
+     */
+    public static LoadBalancingClientEngine wrap(final ClientHttpEngine delegate, final LoadBalancer loadBalancer,
+            final URI baseUri) {
+        if (delegate instanceof AsyncClientHttpEngine) {
+            return new Async((AsyncClientHttpEngine) delegate, loadBalancer, baseUri);
+        }
+        return new LoadBalancingClientEngine(delegate, loadBalancer, baseUri);
+    }
+
+    /**
+     * The load balancer of the engine.
+     *
+     * @return the load balancer
+     */
+    public LoadBalancer getLoadBalancer() {
+        return loadBalancer;
+    }
+
+    @Override
+    public SSLContext getSslContext() {
+        return delegate.getSslContext();
+    }
+
+    @Override
+    public HostnameVerifier getHostnameVerifier() {
+        return delegate.getHostnameVerifier();
+    }
+
+    @Override
+    public Response invoke(final Invocation inv) {
+        final ClientInvocation request = (ClientInvocation) inv;
+        final LoadBalancer.Lease lease = select(request);
+        final Response response;
+        try {
+            response = delegate.invoke(request);
+        } catch (RuntimeException | Error e) {
+            lease.release(e);
+            throw e;
+        }
+        lease.release(response.getStatus());
+        return response;
+    }
+
+    @Override
+    public boolean isFollowRedirects() {
+        return delegate.isFollowRedirects();
+    }
+
+    @Override
+    public void setFollowRedirects(final boolean followRedirects) {
+        delegate.setFollowRedirects(followRedirects);
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    /**
+     * Selects the endpoint of the request and replaces the base URI of the request.
+     */
+    LoadBalancer.Lease select(final ClientInvocation request) {
+        final LoadBalancer.Lease lease = loadBalancer.select();
+        final String uri = request.getUri().toString();
+        // Requests to other URIs, for example redirects which were not followed, are sent as they are
+        if (uri.startsWith(baseUri) && (uri.length() == baseUri.length() || "/?#".indexOf(uri.charAt(baseUri.length())) >= 0)) {
+            request.setUri(URI.create(stripTrailingSlash(lease.getUri().toString()) + uri.substring(baseUri.length())));
+        }
+        return lease;
+    }
+
+    private static String stripTrailingSlash(final String uri) {
+        return uri.endsWith("/") ? uri.substring(0, uri.length() - 1) : uri;
+    }
+
+    private static final class Async extends LoadBalancingClientEngine implements AsyncClientHttpEngine {
+        private final AsyncClientHttpEngine delegate;
+
+        private Async(final AsyncClientHttpEngine delegate, final LoadBalancer loadBalancer, final URI baseUri) {
+            super(delegate, loadBalancer, baseUri);
+            this.delegate = delegate;
+        }
+
+        @Override
+        public <T> Future<T> submit(final ClientInvocation request, final boolean buffered,
+                final InvocationCallback<T> callback, final ResultExtractor<T> extractor) {
+            final LoadBalancer.Lease lease;
+            try {
+                lease = select(request);
+            } catch (ProcessingException e) {
+                if (callback != null) {
+                    callback.failed(e);
+                }
+                return CompletableFuture.failedFuture(e);
+            }
+            // The callback is always passed, as the returned future cannot be observed
+            return delegate.submit(request, buffered, new InvocationCallback<T>() {
+                @Override
+                public void completed(final T response) {
+                    if (callback != null) {
+                        callback.completed(response);
+                    }
+                }
+
+                @Override
+                public void failed(final Throwable throwable) {
+                    lease.release(throwable);
+                    if (callback != null) {
+                        callback.failed(throwable);
+                    }
+                }
+            }, extract(lease, extractor));
+        }
+
+        @Override
+        public <K> CompletableFuture<K> submit(final ClientInvocation request, final boolean buffered,
+                final ResultExtractor<K> extractor, final ExecutorService executorService) {
+            final LoadBalancer.Lease lease;
+            try {
+                lease = select(request);
+            } catch (ProcessingException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+            final CompletableFuture<K> result = delegate.submit(request, buffered, extract(lease, extractor),
+                    executorService);
+            result.whenComplete((value, error) -> {
+                if (error != null) {
+                    lease.release(error);
+                }
+            });
+            return result;
+        }
+
+        private static <T> ResultExtractor<T> extract(final LoadBalancer.Lease lease, final ResultExtractor<T> extractor) {
+            return response -> {
+                // The lease is released when the response is received, a failure to process it is ignored
+                lease.release(response.getStatus());
+                return extractor.extractResult(response);
+            };
+        }
+    }
+}
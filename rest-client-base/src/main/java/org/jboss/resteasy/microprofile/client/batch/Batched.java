@@ -0,0 +1,75 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client.batch;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Sends the invocations of a single item method as requests of a batch method of the same client interface. The
+ * invocations are collected until {@link #maxSize()} distinct items were collected or {@link #maxDelay()} elapsed
+ * after the first one, then a single request of the batch method is sent and its result is split back to the callers.
+ * <p>
+ * The annotated method must return a {@link java.util.concurrent.CompletionStage} and have a single parameter, the
+ * item. The batch method must have a single {@link java.util.List} parameter, the distinct items, and return either a
+ * {@link java.util.List} of the results in the order of the items or a {@link java.util.Map} of the results by item,
+ * directly or as a {@link java.util.concurrent.CompletionStage}. An item missing from a map has a {@code null} result.
+ * </p>
+ *
+ * <pre>
+ * &#64;GET
+ * &#64;Path("/item/{id}")
+ * &#64;Batched("getItems")
+ * CompletionStage&lt;Item&gt; getItem(&#64;PathParam("id") String id);
+ *
+ * &#64;POST
+ * &#64;Path("/items:batch")
+ * CompletionStage&lt;List&lt;Item&gt;&gt; getItems(List&lt;String&gt; ids);
+ * </pre>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Batched {
+
+    /**
+     * The name of the batch method.
+     *
+     * @return the name of the batch method
+     */
+    String value();
+
+    /**
+     * The maximum number of distinct items of a batch.
+     *
+     * @return the maximum number of items
+     */
+    int maxSize() default 100;
+
+    /**
+     * The maximum number of milliseconds an invocation waits for other invocations to join its batch.
+     *
+     * @return the maximum delay in milliseconds
+     */
+    long maxDelay() default 10;
+}
@@ -0,0 +1,216 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client.deadline;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.resteasy.core.ResteasyContext;
+
+/**
+ * The point in time by which the work on the current request must complete. The deadline of the current thread limits
+ * the invocations of all clients: an invocation fails with a {@link DeadlineExceededException} without sending a
+ * request once the deadline expired, and the response is only waited for until the deadline.
+ * <p>
+ * The deadline is kept in the RESTEasy context data, so it is propagated with the context, for example to the threads
+ * of the contextual executors of RESTEasy and to the threads completing asynchronous invocations.
+ * </p>
+ *
+ * <pre>
+ * try (Deadline.Scope scope = Deadline.after(Duration.ofSeconds(2)).attach()) {
+ *     inventory.getItems();
+ *     prices.getPrices();
+ * }
+ * </pre>
+ */
+public final class Deadline {
+    private final long deadline;
+
+    private Deadline(final long deadline) {
+        this.deadline = deadline;
+    }
+
+    /**
+     * Creates a deadline after the timeout.
+     *
+     * @param timeout the time from now
+     *
+     * @return the deadline
+     */
+    public static Deadline after(final Duration timeout) {
+        return after(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Creates a deadline after the timeout.
+     *
+     * @param timeout the time from now
+     * @param unit    the unit of the time
+     *
+     * @return the deadline
+     */
+    public static Deadline after(final long timeout, final TimeUnit unit) {
+        return new Deadline(System.nanoTime() + unit.toNanos(timeout));
+    }
+
+    /**
+     * Returns the deadline of the current thread.
+     *
+     * @return the deadline or {@code null} if the current thread has no deadline
+     */
+    public static Deadline current() {
+        return ResteasyContext.getContextData(Deadline.class);
+    }
+
+    /**
+     * Makes this deadline the deadline of the current thread until the scope is closed. If the current thread already
+     * has an earlier deadline, the earlier deadline is kept, so a nested scope never extends the time budget.
+     *
+     * @return the scope which must be closed on the current thread
+     */
+    public Scope attach() {
+        final Deadline previous = current();
+        final Deadline attached = previous != null && previous.deadline - deadline < 0 ? previous : this;
+        ResteasyContext.pushContext(Deadline.class, attached);
+        return () -> {
+            if (previous == null) {
+                ResteasyContext.popContextData(Deadline.class);
+            } else {
+                ResteasyContext.pushContext(Deadline.class, previous);
+            }
+        };
+    }
+
+    /**
+     * The time remaining until the deadline.
+     *
+     * @param unit the unit of the result
+     *
+     * @return the remaining time, {@code 0} if the deadline expired
+     */
+    public long remaining(final TimeUnit unit) {
+        return unit.convert(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Indicates whether the deadline expired.
+     *
+     * @return {@code true} if no time remains
+     */
+    public boolean isExpired() {
+        return deadline - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Throws if the deadline expired.
+     *
+     * @throws DeadlineExceededException if the deadline expired
+     */
+    public void check() throws DeadlineExceededException {
+        if (isExpired()) {
+            throw new DeadlineExceededException("The deadline of the invocation expired");
+        }
+    }
+
+    /**
+     * Returns the smaller of the timeout and the time remaining until the deadline of the current thread.
+     *
+     * @param timeout the timeout in milliseconds, {@code 0} or less for no timeout
+     *
+     * @return the timeout in milliseconds, at least {@code 1} if a deadline applies, or the given timeout if the current
+     *             thread has no deadline
+     */
+    public static long timeout(final long timeout) {
+        final Deadline current = current();
+        if (current == null) {
+            return timeout;
+        }
+        final long remaining = Math.max(1, current.remaining(TimeUnit.MILLISECONDS));
+        return timeout > 0 ? Math.min(timeout, remaining) : remaining;
+    }
+
+    /**
+     * Completes the future with a {@link DeadlineExceededException} if it is not completed by the deadline. The timer
+     * is cancelled when the future completes, so the future is not retained until the deadline.
+     *
+     * @param future the future
+     * @param <T>    the type of the result
+     *
+     * @return the same future
+     */
+    public <T> CompletableFuture<T> enforce(final CompletableFuture<T> future) {
+        if (!future.isDone()) {
+            // The dependent stages of the future are not run on the thread of the timer
+            final ScheduledFuture<?> timer = Timer.SCHEDULER.schedule(() -> ForkJoinPool.commonPool()
+                    .execute(() -> future.completeExceptionally(
+                            new DeadlineExceededException("The deadline expired before the response was received"))),
+                    remaining(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+            future.whenComplete((ret, t) -> timer.cancel(false));
+        }
+        return future;
+    }
+
+    /**
+     * The number of timers of {@link #enforce(CompletableFuture)} which did not fire and were not cancelled.
+     *
+     * @return the number of pending timers
+     */
+    static int pendingTimers() {
+        return Timer.SCHEDULER.getQueue().size();
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline[remaining=" + remaining(TimeUnit.MILLISECONDS) + "ms]";
+    }
+
+    /**
+     * Holds the scheduler of the timers, which is only created on the first use.
+     */
+    private static final class Timer {
+        private static final ScheduledThreadPoolExecutor SCHEDULER = new ScheduledThreadPoolExecutor(1, r -> {
+            final Thread thread = new Thread(r, "rest-client-deadline-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        static {
+            // A cancelled timer releases its future right away
+            SCHEDULER.setRemoveOnCancelPolicy(true);
+        }
+    }
+
+    /**
+     * The scope of a deadline on the current thread.
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        /**
+         * Restores the previous deadline of the current thread.
+         */
+        @Override
+        void close();
+    }
+}
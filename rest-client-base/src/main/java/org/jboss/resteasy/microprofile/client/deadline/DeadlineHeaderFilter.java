@@ -0,0 +1,76 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client.deadline;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientRequestFilter;
+
+/**
+ * Sends the time remaining until the {@link Deadline} of the current thread in a header, so the server can stop
+ * working on a request the client no longer waits for. The {@code grpc-timeout} header uses the format of gRPC, for
+ * example {@code 1500m}, any other header the number of milliseconds.
+ * <p>
+ * The filter runs after the other filters, so the header reflects the remaining time when the request is sent.
+ * </p>
+ */
+@Priority(Integer.MAX_VALUE)
+public class DeadlineHeaderFilter implements ClientRequestFilter {
+    /**
+     * The header of gRPC for the timeout of a call.
+     */
+    public static final String GRPC_TIMEOUT = "grpc-timeout";
+
+    private final String header;
+
+    /**
+     * Creates a new filter.
+     *
+     * @param header the name of the header
+     */
+    public DeadlineHeaderFilter(final String header) {
+        this.header = header;
+    }
+
+    @Override
+    public void filter(final ClientRequestContext requestContext) {
+        final Deadline deadline = Deadline.current();
+        if (deadline == null) {
+            return;
+        }
+        final long remaining = deadline.remaining(TimeUnit.MILLISECONDS);
+        requestContext.getHeaders().putSingle(header,
+                GRPC_TIMEOUT.equalsIgnoreCase(header) ? toGrpcTimeout(remaining) : Long.toString(remaining));
+    }
+
+    static String toGrpcTimeout(final long millis) {
+        // The value is limited to 8 digits
+        if (millis < 100_000_000L) {
+            return millis + "m";
+        }
+        final long seconds = TimeUnit.MILLISECONDS.toSeconds(millis);
+        if (seconds < 100_000_000L) {
+            return seconds + "S";
+        }
+        return Math.min(TimeUnit.MILLISECONDS.toMinutes(millis), 99_999_999L) + "M";
+    }
+}
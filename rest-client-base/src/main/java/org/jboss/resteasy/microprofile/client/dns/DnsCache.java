@@ -0,0 +1,190 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client.dns;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Caches the addresses of host names for a fixed time, independent of the cache of the JVM. If the addresses of a host
+ * cannot be resolved again when they expired, the previous addresses are used until the next attempt.
+ * <p>
+ * The cache hands out the addresses of a host in turn, so the connections of a client are spread across all addresses
+ * rather than piling onto the first one.
+ * </p>
+ * <p>
+ * A host is resolved by a single thread at a time, the other threads wait for its result. The lookups of different
+ * hosts do not wait for each other, so a slow lookup only delays the callers of its host.
+ * </p>
+ */
+public final class DnsCache {
+    private static final Logger LOGGER = Logger.getLogger(DnsCache.class);
+
+    private static final Map<Long, DnsCache> SHARED = new ConcurrentHashMap<>();
+
+    private final HostResolver resolver;
+    private final long ttl;
+    private final Map<String, Host> hosts;
+    private final Map<String, CompletableFuture<Host>> lookups;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param resolver the resolver of the host names
+     * @param ttl      the time in milliseconds the addresses are cached for
+     */
+    public DnsCache(final HostResolver resolver, final long ttl) {
+        if (ttl < 0) {
+            throw new IllegalArgumentException("Invalid time to live " + ttl);
+        }
+        this.resolver = resolver;
+        this.ttl = TimeUnit.MILLISECONDS.toNanos(ttl);
+        this.hosts = new ConcurrentHashMap<>();
+        this.lookups = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the cache shared by all clients with the same time to live, which uses the resolver of the JVM.
+     *
+     * @param ttl the time in milliseconds the addresses are cached for
+     *
+     * @return the shared cache
+     */
+    public static DnsCache shared(final long ttl) {
+        return SHARED.computeIfAbsent(ttl, t -> new DnsCache(HostResolver.SYSTEM, t));
+    }
+
+    /**
+     * Returns the addresses of the host.
+     *
+     * @param host the host name
+     *
+     * @return a copy of the cached addresses
+     *
+     * @throws UnknownHostException if the host name cannot be resolved
+     */
+    public InetAddress[] resolve(final String host) throws UnknownHostException {
+        return getHost(host).addresses.clone();
+    }
+
+    /**
+     * Returns the next of the addresses of the host. Each address is returned in turn.
+     *
+     * @param host the host name
+     *
+     * @return the address
+     *
+     * @throws UnknownHostException if the host name cannot be resolved
+     */
+    public InetAddress next(final String host) throws UnknownHostException {
+        final Host entry = getHost(host);
+        return entry.addresses[Math.floorMod(entry.next.getAndIncrement(), entry.addresses.length)];
+    }
+
+    private Host getHost(final String host) throws UnknownHostException {
+        final String key = host.toLowerCase(Locale.ROOT);
+        Host entry = hosts.get(key);
+        if (entry != null && System.nanoTime() - entry.expires < 0) {
+            return entry;
+        }
+        // Only one thread resolves the host at a time, the others wait for its result
+        final CompletableFuture<Host> lookup = new CompletableFuture<>();
+        final CompletableFuture<Host> inFlight = lookups.putIfAbsent(key, lookup);
+        if (inFlight != null) {
+            return await(inFlight, host);
+        }
+        try {
+            final Host result = resolve(host, key);
+            lookup.complete(result);
+            return result;
+        } catch (UnknownHostException | RuntimeException | Error e) {
+            lookup.completeExceptionally(e);
+            throw e;
+        } finally {
+            lookups.remove(key, lookup);
+        }
+    }
+
+    private Host resolve(final String host, final String key) throws UnknownHostException {
+        // The host may have been resolved since it was looked up
+        final Host entry = hosts.get(key);
+        final long now = System.nanoTime();
+        if (entry != null && now - entry.expires < 0) {
+            return entry;
+        }
+        InetAddress[] addresses;
+        try {
+            addresses = resolver.resolve(host);
+            if (addresses == null || addresses.length == 0) {
+                throw new UnknownHostException(host);
+            }
+        } catch (UnknownHostException e) {
+            if (entry == null) {
+                throw e;
+            }
+            LOGGER.debugf(e, "Failed to resolve %s, the previous addresses are used", host);
+            addresses = entry.addresses;
+        }
+        final Host result = new Host(addresses.clone(), now + ttl, entry == null ? 0 : entry.next.get());
+        hosts.put(key, result);
+        return result;
+    }
+
+    private static Host await(final CompletableFuture<Host> lookup, final String host) throws UnknownHostException {
+        try {
+            return lookup.join();
+        } catch (CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof UnknownHostException) {
+                final UnknownHostException unknownHost = new UnknownHostException(cause.getMessage());
+                unknownHost.initCause(cause);
+                throw unknownHost;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(String.format("Failed to resolve %s", host), cause);
+        }
+    }
+
+    private static final class Host {
+        private final InetAddress[] addresses;
+        private final long expires;
+        private final AtomicInteger next;
+
+        private Host(final InetAddress[] addresses, final long expires, final int next) {
+            this.addresses = addresses;
+            this.expires = expires;
+            this.next = new AtomicInteger(next);
+        }
+    }
+}
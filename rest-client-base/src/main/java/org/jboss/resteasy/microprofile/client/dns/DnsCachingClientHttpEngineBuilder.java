@@ -0,0 +1,55 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client.dns;
+
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.jboss.resteasy.client.jaxrs.ResteasyClientBuilder;
+import org.jboss.resteasy.microprofile.client.engine.ApacheClientHttpEngineBuilder;
+
+/**
+ * Builds the Apache HttpClient engine of RESTEasy with the addresses of the hosts resolved by a {@link DnsCache}.
+ */
+public class DnsCachingClientHttpEngineBuilder extends ApacheClientHttpEngineBuilder {
+    private final DnsCache cache;
+    private final boolean spread;
+
+    /**
+     * Creates a new engine builder.
+     *
+     * @param cache  the cache resolving the hosts
+     * @param spread {@code true} if the connections should be spread across all addresses of a host, {@code false}
+     *                   if the first address should be used
+     */
+    public DnsCachingClientHttpEngineBuilder(final DnsCache cache, final boolean spread) {
+        this.cache = cache;
+        this.spread = spread;
+    }
+
+    @Override
+    public DnsCachingClientHttpEngineBuilder resteasyClientBuilder(final ResteasyClientBuilder resteasyClientBuilder) {
+        super.resteasyClientBuilder(resteasyClientBuilder);
+        return this;
+    }
+
+    @Override
+    protected void configure(final HttpClientBuilder clientBuilder) {
+        clientBuilder.setRoutePlanner(new DnsRoutePlanner(cache, spread));
+    }
+}
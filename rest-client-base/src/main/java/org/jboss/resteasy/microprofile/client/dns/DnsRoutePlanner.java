@@ -0,0 +1,69 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client.dns;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+import org.apache.http.HttpException;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.DefaultRoutePlanner;
+import org.apache.http.impl.conn.DefaultSchemePortResolver;
+import org.apache.http.protocol.HttpContext;
+
+/**
+ * Routes the requests to an address resolved by a {@link DnsCache}. The address is part of the route, so each address
+ * has its own connections in the pool. The host name is kept, so it is still used for the {@code Host} header and the
+ * TLS handshake.
+ */
+class DnsRoutePlanner extends DefaultRoutePlanner {
+    private final DnsCache cache;
+    private final boolean spread;
+
+    DnsRoutePlanner(final DnsCache cache, final boolean spread) {
+        super(DefaultSchemePortResolver.INSTANCE);
+        this.cache = cache;
+        this.spread = spread;
+    }
+
+    @Override
+    public HttpRoute determineRoute(final HttpHost host, final HttpRequest request, final HttpContext context)
+            throws HttpException {
+        final RequestConfig config = HttpClientContext.adapt(context).getRequestConfig();
+        // A proxy resolves the host itself
+        if (host == null || host.getAddress() != null || config.getProxy() != null) {
+            return super.determineRoute(host, request, context);
+        }
+        final InetAddress address;
+        try {
+            address = spread ? cache.next(host.getHostName()) : cache.resolve(host.getHostName())[0];
+        } catch (UnknownHostException e) {
+            throw new HttpException("Unknown host " + host.getHostName(), e);
+        }
+        // The default planner drops the address if the port is not set
+        final int port = host.getPort() > 0 ? host.getPort() : DefaultSchemePortResolver.INSTANCE.resolve(host);
+        return super.determineRoute(new HttpHost(address, host.getHostName(), port, host.getSchemeName()), request,
+                context);
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client.dns;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+/**
+ * Resolves the addresses of a host name, see {@link DnsCache}.
+ */
+@FunctionalInterface
+public interface HostResolver {
+
+    /**
+     * The resolver of the JVM.
+     */
+    HostResolver SYSTEM = InetAddress::getAllByName;
+
+    /**
+     * Resolves the addresses of the host.
+     *
+     * @param host the host name
+     *
+     * @return the addresses of the host, never empty
+     *
+     * @throws UnknownHostException if the host name cannot be resolved
+     */
+    InetAddress[] resolve(String host) throws UnknownHostException;
+}
@@ -0,0 +1,210 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client.engine;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+
+import jakarta.ws.rs.client.Invocation;
+import jakarta.ws.rs.core.Response;
+
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.jboss.resteasy.client.jaxrs.ClientHttpEngine;
+import org.jboss.resteasy.client.jaxrs.ResteasyClientBuilder;
+import org.jboss.resteasy.client.jaxrs.engines.ApacheHttpClient43Engine;
+import org.jboss.resteasy.client.jaxrs.engines.ClientHttpEngineBuilder43;
+import org.jboss.resteasy.client.jaxrs.internal.ClientInvocation;
+import org.jboss.resteasy.microprofile.client.deadline.Deadline;
+import org.jboss.resteasy.microprofile.client.timeout.RequestTimeouts;
+
+/**
+ * Builds the Apache HttpClient engine of RESTEasy with support for the {@link RequestTimeouts} of a request. The
+ * connect and read timeouts, and the time waiting for a pooled connection, are also shortened to the time remaining
+ * until the {@link Deadline} of the current thread, if any. This engine is used by the clients whenever the default
+ * engine is selected.
+ * <p>
+ * The request configuration is replaced by an interceptor of the HttpClient, which runs on the thread invoking the
+ * engine. Subclasses may customize the HttpClient through {@link #configure(HttpClientBuilder)}.
+ * </p>
+ * <p>
+ * The request sent by an invocation can be aborted from another thread through a {@link RequestAbort}, which closes
+ * the connection. Interrupting the thread does not stop a blocking socket read.
+ * </p>
+ */
+public class ApacheClientHttpEngineBuilder extends ClientHttpEngineBuilder43 {
+    private static final ThreadLocal<RequestTimeouts> TIMEOUTS = new ThreadLocal<>();
+    private static final ThreadLocal<RequestAbort> ABORTS = new ThreadLocal<>();
+
+    // The configuration of the request is resolved before the interceptors run, the connection is established and the
+    // socket timeout is set after
+    private static final HttpRequestInterceptor TIMEOUT_INTERCEPTOR = (request, context) -> {
+        final RequestTimeouts timeouts = TIMEOUTS.get();
+        final Deadline deadline = Deadline.current();
+        if (timeouts == null && deadline == null) {
+            return;
+        }
+        final HttpClientContext clientContext = HttpClientContext.adapt(context);
+        final RequestConfig config = clientContext.getRequestConfig();
+        long connectTimeout = config.getConnectTimeout();
+        long socketTimeout = config.getSocketTimeout();
+        if (timeouts != null) {
+            connectTimeout = timeouts.connectTimeout(connectTimeout);
+            socketTimeout = timeouts.readTimeout(socketTimeout);
+        }
+        // A timeout of 0, or less, means no timeout
+        connectTimeout = Deadline.timeout(connectTimeout);
+        socketTimeout = Deadline.timeout(socketTimeout);
+        final long connectionRequestTimeout = Deadline.timeout(config.getConnectionRequestTimeout());
+        clientContext.setRequestConfig(RequestConfig.copy(config)
+                .setConnectionRequestTimeout((int) Math.min(connectionRequestTimeout, Integer.MAX_VALUE))
+                .setConnectTimeout((int) Math.min(connectTimeout, Integer.MAX_VALUE))
+                .setSocketTimeout((int) Math.min(socketTimeout, Integer.MAX_VALUE))
+                .build());
+    };
+
+    private ResteasyClientBuilder builder;
+
+    @Override
+    public ApacheClientHttpEngineBuilder resteasyClientBuilder(final ResteasyClientBuilder resteasyClientBuilder) {
+        super.resteasyClientBuilder(resteasyClientBuilder);
+        this.builder = resteasyClientBuilder;
+        return this;
+    }
+
+    @Override
+    protected ClientHttpEngine createEngine(final HttpClientConnectionManager cm, final RequestConfig.Builder rcBuilder,
+            final HttpHost defaultProxy, final int responseBufferSize, final HostnameVerifier verifier,
+            final SSLContext theContext) {
+        // The route planner takes the proxy from the request configuration
+        rcBuilder.setProxy(defaultProxy);
+        final HttpClientBuilder clientBuilder = HttpClientBuilder.create()
+                .setConnectionManager(cm)
+                .setDefaultRequestConfig(rcBuilder.build())
+                .addInterceptorLast(TIMEOUT_INTERCEPTOR)
+                .disableContentCompression();
+        if (!builder.isCookieManagementEnabled()) {
+            clientBuilder.disableCookieManagement();
+        }
+        if (builder.isDisableAutomaticRetries()) {
+            clientBuilder.disableAutomaticRetries();
+        }
+        configure(clientBuilder);
+        final ApacheHttpClient43Engine engine = new Engine(clientBuilder.build());
+        engine.setResponseBufferSize(responseBufferSize);
+        engine.setHostnameVerifier(verifier);
+        engine.setSslContext(theContext);
+        engine.setFollowRedirects(builder.isFollowRedirects());
+        return engine;
+    }
+
+    /**
+     * Customizes the HttpClient of the engine.
+     *
+     * @param clientBuilder the builder of the HttpClient
+     */
+    protected void configure(final HttpClientBuilder clientBuilder) {
+    }
+
+    /**
+     * Aborts the requests sent by the engine for the invocations executed on the thread the abort is attached to.
+     * <p>
+     * The abort is attached on the thread invoking the engine, then {@link #abort()} may be called from any thread. A
+     * request created after the abort is aborted before it is sent.
+     * </p>
+     */
+    public static final class RequestAbort {
+        private HttpRequestBase request;
+        private boolean aborted;
+
+        /**
+         * Attaches the abort to the current thread until the returned scope is closed.
+         *
+         * @return the scope which detaches the abort, must be closed on the current thread
+         */
+        public Scope attach() {
+            ABORTS.set(this);
+            return ABORTS::remove;
+        }
+
+        /**
+         * Aborts the current request, if any, and the requests created later.
+         */
+        public synchronized void abort() {
+            aborted = true;
+            if (request != null) {
+                request.abort();
+            }
+        }
+
+        private synchronized void register(final HttpRequestBase request) {
+            this.request = request;
+            if (aborted) {
+                request.abort();
+            }
+        }
+
+        /**
+         * Detaches a {@link RequestAbort} from the thread it was attached to.
+         */
+        public interface Scope extends AutoCloseable {
+            @Override
+            void close();
+        }
+    }
+
+    private static class Engine extends ApacheHttpClient43Engine {
+
+        Engine(final HttpClient httpClient) {
+            super(httpClient, true);
+        }
+
+        @Override
+        public Response invoke(final Invocation inv) {
+            final RequestTimeouts timeouts = RequestTimeouts.of(((ClientInvocation) inv).getConfiguration());
+            if (timeouts == null) {
+                return super.invoke(inv);
+            }
+            // The request is executed on the current thread
+            TIMEOUTS.set(timeouts);
+            try {
+                return super.invoke(inv);
+            } finally {
+                TIMEOUTS.remove();
+            }
+        }
+
+        @Override
+        protected HttpRequestBase createHttpMethod(final String url, final String restVerb) {
+            final HttpRequestBase request = super.createHttpMethod(url, restVerb);
+            final RequestAbort abort = ABORTS.get();
+            if (abort != null) {
+                abort.register(request);
+            }
+            return request;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client.engine;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.jboss.resteasy.client.jaxrs.internal.ClientInvocation;
+import org.jboss.resteasy.client.jaxrs.internal.FinalizedClientResponse;
+
+/**
+ * A response of the engines of this package which reads the entity from a stream. Releasing the connection closes the
+ * stream.
+ */
+class InputStreamClientResponse extends FinalizedClientResponse {
+    private InputStream stream;
+
+    InputStreamClientResponse(final ClientInvocation request, final InputStream stream) {
+        super(request.getClientConfiguration(), request.getTracingLogger());
+        this.stream = stream;
+    }
+
+    @Override
+    protected InputStream getInputStream() {
+        return stream;
+    }
+
+    @Override
+    protected void setInputStream(final InputStream is) {
+        stream = is;
+        resetEntity();
+    }
+
+    @Override
+    public void releaseConnection() throws IOException {
+        releaseConnection(false);
+    }
+
+    @Override
+    public void releaseConnection(final boolean consumeInputStream) throws IOException {
+        final InputStream in = stream;
+        if (in != null) {
+            if (consumeInputStream) {
+                while (in.read() >= 0) {
+                    // consume the entity so the connection can be reused
+                }
+            }
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,329 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client.engine;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.ProxySelector;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.client.Invocation;
+import jakarta.ws.rs.client.InvocationCallback;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.resteasy.client.jaxrs.ResteasyClientBuilder;
+import org.jboss.resteasy.client.jaxrs.engines.AsyncClientHttpEngine;
+import org.jboss.resteasy.client.jaxrs.internal.ClientInvocation;
+import org.jboss.resteasy.client.jaxrs.internal.ClientResponse;
+import org.jboss.resteasy.microprofile.client.deadline.Deadline;
+import org.jboss.resteasy.microprofile.client.timeout.RequestTimeouts;
+import org.jboss.resteasy.util.CaseInsensitiveMap;
+
+/**
+ * A {@link org.jboss.resteasy.client.jaxrs.ClientHttpEngine} based on the {@link HttpClient} of the JDK. HTTP/2 is used
+ * when the server supports it.
+ * <p>
+ * The engine is {@linkplain AsyncClientHttpEngine asynchronous}: asynchronous invocations complete from the I/O layer
+ * of the {@link HttpClient} without blocking a thread while waiting for the response. The entity of an asynchronous
+ * response is buffered before the response is processed. Cancelling the future of an asynchronous invocation cancels
+ * the exchange. The {@link HttpClient} aborts a cancelled exchange from JDK 16. On older JDKs the exchange runs to
+ * completion, its buffered response is then discarded and the connection is released as usual.
+ * </p>
+ * <p>
+ * Custom {@link HostnameVerifier}'s are not supported by the {@link HttpClient}. The connect timeout applies to all
+ * requests, the read timeout may be replaced per request, see {@link RequestTimeouts}.
+ * </p>
+ */
+public class JavaHttpClientEngine implements AsyncClientHttpEngine {
+    // The headers which are set by the HttpClient and cannot be set on a request
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect", "host",
+            "upgrade");
+
+    private final HttpClient httpClient;
+    private final SSLContext sslContext;
+    private final Duration readTimeout;
+    private volatile boolean followRedirects;
+
+    /**
+     * Creates a new engine.
+     *
+     * @param httpClient      the client used to send the requests
+     * @param readTimeout     the timeout for receiving the response, or {@code null} if the response should be waited for
+     *                            indefinitely
+     * @param followRedirects whether redirects should be followed
+     */
+    public JavaHttpClientEngine(final HttpClient httpClient, final Duration readTimeout, final boolean followRedirects) {
+        this.httpClient = httpClient;
+        this.sslContext = httpClient.sslContext();
+        this.readTimeout = readTimeout;
+        this.followRedirects = followRedirects;
+    }
+
+    /**
+     * Creates a new engine with the settings of the builder.
+     *
+     * @param builder the builder with the settings of the client
+     *
+     * @return the new engine
+     *
+     * @throws IllegalStateException if the builder uses a {@link HostnameVerifier} or an invalid key or trust store
+     */
+    public static JavaHttpClientEngine create(final ResteasyClientBuilder builder) {
+        if (builder.getHostnameVerifier() != null) {
+            throw new IllegalStateException("A HostnameVerifier is not supported by the java.net.http.HttpClient engine");
+        }
+        final HttpClient.Builder clientBuilder = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(builder.isFollowRedirects() ? HttpClient.Redirect.NORMAL : HttpClient.Redirect.NEVER);
+        final long connectTimeout = builder.getConnectionTimeout(TimeUnit.MILLISECONDS);
+        if (connectTimeout > 0) {
+            clientBuilder.connectTimeout(Duration.ofMillis(connectTimeout));
+        }
+        final SSLContext sslContext = createSslContext(builder);
+        if (sslContext != null) {
+            clientBuilder.sslContext(sslContext);
+        }
+        final String proxyHost = builder.getDefaultProxyHostname();
+        if (proxyHost != null) {
+            clientBuilder.proxy(ProxySelector.of(InetSocketAddress.createUnresolved(proxyHost,
+                    builder.getDefaultProxyPort() < 0 ? 80 : builder.getDefaultProxyPort())));
+        }
+        final long readTimeout = builder.getReadTimeout(TimeUnit.MILLISECONDS);
+        return new JavaHttpClientEngine(clientBuilder.build(), readTimeout > 0 ? Duration.ofMillis(readTimeout) : null,
+                builder.isFollowRedirects());
+    }
+
+    @Override
+    public SSLContext getSslContext() {
+        return sslContext;
+    }
+
+    @Override
+    public HostnameVerifier getHostnameVerifier() {
+        return null;
+    }
+
+    @Override
+    public Response invoke(final Invocation inv) {
+        final ClientInvocation request = (ClientInvocation) inv;
+        try {
+            final HttpResponse<InputStream> response = httpClient.send(createRequest(request),
+                    HttpResponse.BodyHandlers.ofInputStream());
+            return createResponse(request, response, response.body());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProcessingException(e);
+        } catch (IOException e) {
+            throw new ProcessingException(e);
+        }
+    }
+
+    @Override
+    public <T> Future<T> submit(final ClientInvocation request, final boolean buffered, final InvocationCallback<T> callback,
+            final ResultExtractor<T> extractor) {
+        final CompletableFuture<T> future = submit(request, extractor);
+        if (callback != null) {
+            future.whenComplete((result, error) -> {
+                if (error == null) {
+                    callback.completed(result);
+                } else {
+                    callback.failed(unwrap(error));
+                }
+            });
+        }
+        return future;
+    }
+
+    @Override
+    public <K> CompletableFuture<K> submit(final ClientInvocation request, final boolean buffered,
+            final ResultExtractor<K> extractor, final ExecutorService executorService) {
+        // The executor is not required, the result is extracted from the buffered entity in the I/O layer
+        return submit(request, extractor);
+    }
+
+    @Override
+    public boolean isFollowRedirects() {
+        return followRedirects;
+    }
+
+    @Override
+    public void setFollowRedirects(final boolean followRedirects) {
+        if (followRedirects != (httpClient.followRedirects() != HttpClient.Redirect.NEVER)) {
+            throw new IllegalStateException("The redirect policy of the java.net.http.HttpClient cannot be changed");
+        }
+        this.followRedirects = followRedirects;
+    }
+
+    @Override
+    public void close() {
+        // The HttpClient is closed when it is no longer referenced
+    }
+
+    private <T> CompletableFuture<T> submit(final ClientInvocation request, final ResultExtractor<T> extractor) {
+        final HttpRequest httpRequest;
+        try {
+            httpRequest = createRequest(request);
+        } catch (RuntimeException | IOException e) {
+            return CompletableFuture.failedFuture(e instanceof IOException ? new ProcessingException(e) : e);
+        }
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final CompletableFuture<HttpResponse<byte[]>> exchange = httpClient.sendAsync(httpRequest,
+                HttpResponse.BodyHandlers.ofByteArray());
+        exchange.whenComplete((response, error) -> {
+            if (result.isDone()) {
+                // Cancelled or timed out, the response of an exchange which was not aborted is discarded
+                return;
+            }
+            if (error != null) {
+                final Throwable cause = unwrap(error);
+                result.completeExceptionally(cause instanceof IOException ? new ProcessingException(cause) : cause);
+                return;
+            }
+            try {
+                result.complete(extractor.extractResult(
+                        createResponse(request, response, new ByteArrayInputStream(response.body()))));
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        // Cancelling the result, or a timeout, aborts the exchange from JDK 16
+        result.whenComplete((value, error) -> {
+            if (error != null && !exchange.isDone()) {
+                exchange.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private HttpRequest createRequest(final ClientInvocation request) throws IOException {
+        final HttpRequest.BodyPublisher body;
+        if (request.getEntity() != null) {
+            // Writing the entity may update the headers, so it must be written first
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            request.getDelegatingOutputStream().setDelegate(out);
+            request.writeRequestBody(request.getEntityStream());
+            body = HttpRequest.BodyPublishers.ofByteArray(out.toByteArray());
+        } else {
+            body = HttpRequest.BodyPublishers.noBody();
+        }
+        final HttpRequest.Builder builder = HttpRequest.newBuilder(request.getUri())
+                .method(request.getMethod(), body);
+        // The timeout of the request replaces the timeout of the client, the deadline of the current thread, if any,
+        // shortens it
+        final RequestTimeouts timeouts = RequestTimeouts.of(request.getConfiguration());
+        final long clientTimeout = readTimeout == null ? 0 : readTimeout.toMillis();
+        final long timeout = Deadline.timeout(timeouts == null ? clientTimeout : timeouts.readTimeout(clientTimeout));
+        if (timeout > 0) {
+            builder.timeout(Duration.ofMillis(timeout));
+        }
+        final MultivaluedMap<String, String> headers = request.getHeaders().asMap();
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            if (RESTRICTED_HEADERS.contains(header.getKey().toLowerCase(Locale.ROOT))) {
+                continue;
+            }
+            for (String value : header.getValue()) {
+                builder.header(header.getKey(), value);
+            }
+        }
+        return builder.build();
+    }
+
+    private static ClientResponse createResponse(final ClientInvocation request, final HttpResponse<?> httpResponse,
+            final InputStream entity) {
+        final ClientResponse response = new InputStreamClientResponse(request, entity);
+        response.setStatus(httpResponse.statusCode());
+        final CaseInsensitiveMap<String> headers = new CaseInsensitiveMap<>();
+        httpResponse.headers().map().forEach((name, values) -> {
+            // Skip the HTTP/2 pseudo headers
+            if (!name.startsWith(":")) {
+                headers.put(name, new ArrayList<>(values));
+            }
+        });
+        response.setHeaders(headers);
+        return response;
+    }
+
+    private static SSLContext createSslContext(final ResteasyClientBuilder builder) {
+        if (builder.getSSLContext() != null) {
+            return builder.getSSLContext();
+        }
+        final KeyStore keyStore = builder.getKeyStore();
+        final KeyStore trustStore = builder.getTrustStore();
+        if (keyStore == null && trustStore == null) {
+            return null;
+        }
+        try {
+            final SSLContext sslContext = SSLContext.getInstance("TLS");
+            KeyManager[] keyManagers = null;
+            if (keyStore != null) {
+                final KeyManagerFactory factory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+                final String password = builder.getKeyStorePassword();
+                factory.init(keyStore, password == null ? null : password.toCharArray());
+                keyManagers = factory.getKeyManagers();
+            }
+            TrustManager[] trustManagers = null;
+            if (trustStore != null) {
+                final TrustManagerFactory factory = TrustManagerFactory
+                        .getInstance(TrustManagerFactory.getDefaultAlgorithm());
+                factory.init(trustStore);
+                trustManagers = factory.getTrustManagers();
+            }
+            sslContext.init(keyManagers, trustManagers, null);
+            return sslContext;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to create the SSLContext", e);
+        }
+    }
+
+    private static Throwable unwrap(final Throwable error) {
+        if ((error instanceof CompletionException || error instanceof ExecutionException) && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
+    }
+}
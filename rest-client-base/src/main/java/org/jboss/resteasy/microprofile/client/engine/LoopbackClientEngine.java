@@ -0,0 +1,215 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client.engine;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.client.Invocation;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
+import jakarta.ws.rs.ext.RuntimeDelegate;
+
+import org.jboss.resteasy.client.jaxrs.ClientHttpEngine;
+import org.jboss.resteasy.client.jaxrs.internal.ClientInvocation;
+import org.jboss.resteasy.client.jaxrs.internal.ClientResponse;
+import org.jboss.resteasy.core.ResteasyContext;
+import org.jboss.resteasy.core.SynchronousDispatcher;
+import org.jboss.resteasy.core.SynchronousExecutionContext;
+import org.jboss.resteasy.mock.MockHttpRequest;
+import org.jboss.resteasy.mock.MockHttpResponse;
+import org.jboss.resteasy.spi.Dispatcher;
+import org.jboss.resteasy.util.CaseInsensitiveMap;
+
+/**
+ * A {@link ClientHttpEngine} which hands the requests directly to the {@link Dispatcher} of a RESTEasy deployment in
+ * the same JVM, without a socket or the servlet container.
+ * <p>
+ * The request is dispatched on the calling thread. As the servlet container is bypassed, servlet filters and the
+ * security constraints of the web application are not applied. The entities are buffered.
+ * </p>
+ */
+public class LoopbackClientEngine implements ClientHttpEngine {
+    private final Dispatcher dispatcher;
+    private final URI baseUri;
+    private volatile boolean followRedirects;
+
+    /**
+     * Creates a new engine.
+     *
+     * @param dispatcher the dispatcher of the deployment
+     * @param baseUri    the base URI of the deployment, the request URIs are resolved against it
+     */
+    public LoopbackClientEngine(final Dispatcher dispatcher, final URI baseUri) {
+        this.dispatcher = dispatcher;
+        this.baseUri = baseUri;
+    }
+
+    /**
+     * Creates an engine for the deployment of the current request, if any.
+     *
+     * @return the engine or an empty optional if the current thread does not process a request of a RESTEasy
+     *             deployment
+     */
+    public static Optional<LoopbackClientEngine> forCurrentDeployment() {
+        final Dispatcher dispatcher = ResteasyContext.getContextData(Dispatcher.class);
+        final UriInfo uriInfo = ResteasyContext.getContextData(UriInfo.class);
+        if (dispatcher == null || uriInfo == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new LoopbackClientEngine(dispatcher, uriInfo.getBaseUri()));
+    }
+
+    /**
+     * Indicates whether the URI is a resource of the deployment of this engine. Host names are compared literally, so
+     * for example {@code localhost} and {@code 127.0.0.1} do not match.
+     *
+     * @param uri the URI to check
+     *
+     * @return {@code true} if the URI is handled by the deployment of this engine
+     */
+    public boolean isLocal(final URI uri) {
+        if (uri.getScheme() == null || !uri.getScheme().equalsIgnoreCase(baseUri.getScheme())
+                || uri.getHost() == null || !uri.getHost().equalsIgnoreCase(baseUri.getHost())
+                || port(uri) != port(baseUri)) {
+            return false;
+        }
+        final String basePath = baseUri.getRawPath() == null ? "/" : baseUri.getRawPath();
+        final String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        final String prefix = basePath.endsWith("/") ? basePath : basePath + "/";
+        return path.startsWith(prefix) || (path + "/").equals(prefix);
+    }
+
+    @Override
+    public SSLContext getSslContext() {
+        return null;
+    }
+
+    @Override
+    public HostnameVerifier getHostnameVerifier() {
+        return null;
+    }
+
+    @Override
+    public Response invoke(final Invocation inv) {
+        final ClientInvocation request = (ClientInvocation) inv;
+        final MockHttpRequest serverRequest = MockHttpRequest.create(request.getMethod(), request.getUri(), baseUri);
+        if (request.getEntity() != null) {
+            // Writing the entity may update the headers, so it must be written first
+            final ByteArrayOutputStream entity = new ByteArrayOutputStream();
+            request.getDelegatingOutputStream().setDelegate(entity);
+            try {
+                request.writeRequestBody(request.getEntityStream());
+            } catch (IOException e) {
+                throw new ProcessingException(e);
+            }
+            serverRequest.content(entity.toByteArray());
+        }
+        final MultivaluedMap<String, String> headers = request.getHeaders().asMap();
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            for (String value : header.getValue()) {
+                serverRequest.header(header.getKey(), value);
+            }
+        }
+        final MockHttpResponse serverResponse = new MockHttpResponse();
+        if (dispatcher instanceof SynchronousDispatcher) {
+            // Asynchronous resources are completed before the dispatcher returns
+            serverRequest.setAsynchronousContext(new SynchronousExecutionContext((SynchronousDispatcher) dispatcher,
+                    serverRequest, serverResponse));
+        }
+        dispatch(serverRequest, serverResponse);
+
+        final ClientResponse response = new InputStreamClientResponse(request,
+                new ByteArrayInputStream(serverResponse.getOutput()));
+        response.setStatus(serverResponse.getStatus());
+        final CaseInsensitiveMap<String> responseHeaders = new CaseInsensitiveMap<>();
+        for (Map.Entry<String, List<Object>> header : serverResponse.getOutputHeaders().entrySet()) {
+            for (Object value : header.getValue()) {
+                responseHeaders.add(header.getKey(), toString(value));
+            }
+        }
+        response.setHeaders(responseHeaders);
+        return response;
+    }
+
+    @Override
+    public boolean isFollowRedirects() {
+        return followRedirects;
+    }
+
+    @Override
+    public void setFollowRedirects(final boolean followRedirects) {
+        this.followRedirects = followRedirects;
+    }
+
+    @Override
+    public void close() {
+        // The dispatcher belongs to the deployment
+    }
+
+    private void dispatch(final MockHttpRequest request, final MockHttpResponse response) {
+        // The context data of the current thread belongs to the request invoking the client, if any. The dispatched
+        // request gets its own level on top of it, which is removed afterwards.
+        final int levels = ResteasyContext.getContextDataLevelCount();
+        ResteasyContext.pushContextDataMap(new HashMap<>());
+        try {
+            dispatcher.invoke(request, response);
+        } finally {
+            while (ResteasyContext.getContextDataLevelCount() > levels) {
+                ResteasyContext.removeContextDataLevel();
+            }
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static String toString(final Object value) {
+        if (value instanceof String) {
+            return (String) value;
+        }
+        try {
+            final RuntimeDelegate.HeaderDelegate delegate = RuntimeDelegate.getInstance()
+                    .createHeaderDelegate(value.getClass());
+            if (delegate != null) {
+                return delegate.toString(value);
+            }
+        } catch (IllegalArgumentException ignore) {
+            // no delegate for the type
+        }
+        return value.toString();
+    }
+
+    private static int port(final URI uri) {
+        if (uri.getPort() >= 0) {
+            return uri.getPort();
+        }
+        return "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client.engine;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+
+import jakarta.ws.rs.client.Invocation;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.client.jaxrs.ClientHttpEngine;
+import org.jboss.resteasy.client.jaxrs.ResteasyClientBuilder;
+
+/**
+ * A registry of {@link ClientHttpEngine engines} shared by clients which target the same authority with compatible
+ * settings. Clients sharing an engine share its connection pool.
+ * <p>
+ * The engines are reference counted. Each client gets its own handle to the shared engine and closing the handle, which
+ * happens when the client is closed, releases the reference. The shared engine is closed when the last client using it
+ * is closed.
+ * </p>
+ */
+public final class SharedClientHttpEngines {
+    private static final Logger LOGGER = Logger.getLogger(SharedClientHttpEngines.class);
+
+    private static final Map<Key, Entry> ENGINES = new HashMap<>();
+
+    private SharedClientHttpEngines() {
+    }
+
+    /**
+     * Returns a handle to the engine shared by clients with the same authority and settings. If no engine is shared
+     * yet, the factory is used to create the engine.
+     *
+     * @param baseUri the base URI of the client
+     * @param builder the builder with the settings of the client
+     * @param factory the factory used to create the engine from the builder
+     *
+     * @return a new handle for the shared engine which must be closed when no longer used
+     */
+    public static ClientHttpEngine acquire(final URI baseUri, final ResteasyClientBuilder builder,
+            final Function<ResteasyClientBuilder, ClientHttpEngine> factory) {
+        return acquire(baseUri, builder, null, factory);
+    }
+
+    /**
+     * Returns a handle to the engine shared by clients with the same authority and settings. If no engine is shared
+     * yet, the factory is used to create the engine.
+     *
+     * @param baseUri the base URI of the client
+     * @param builder the builder with the settings of the client
+     * @param setting an additional setting the factory depends on, which is compared with {@code equals()}, or
+     *                    {@code null}
+     * @param factory the factory used to create the engine from the builder
+     *
+     * @return a new handle for the shared engine which must be closed when no longer used
+     */
+    public static ClientHttpEngine acquire(final URI baseUri, final ResteasyClientBuilder builder, final Object setting,
+            final Function<ResteasyClientBuilder, ClientHttpEngine> factory) {
+        final Key key = Key.of(baseUri, builder, setting);
+        synchronized (ENGINES) {
+            Entry entry = ENGINES.get(key);
+            if (entry == null) {
+                LOGGER.debugf("Creating shared engine for %s", key);
+                entry = new Entry(key, factory.apply(builder));
+                ENGINES.put(key, entry);
+            }
+            entry.references++;
+            return new SharedClientHttpEngine(entry);
+        }
+    }
+
+    private static void release(final Entry entry) {
+        synchronized (ENGINES) {
+            if (--entry.references > 0) {
+                return;
+            }
+            ENGINES.remove(entry.key);
+        }
+        LOGGER.debugf("Closing shared engine for %s", entry.key);
+        entry.engine.close();
+    }
+
+    private static class Entry {
+        private final Key key;
+        private final ClientHttpEngine engine;
+        // Guarded by ENGINES
+        private int references;
+
+        private Entry(final Key key, final ClientHttpEngine engine) {
+            this.key = key;
+            this.engine = engine;
+        }
+    }
+
+    /**
+     * The authority and all settings of the builder which are used to create an engine.
+     */
+    private static class Key {
+        private final String scheme;
+        private final String host;
+        private final int port;
+        private final List<Object> settings;
+
+        private Key(final String scheme, final String host, final int port, final List<Object> settings) {
+            this.scheme = scheme;
+            this.host = host;
+            this.port = port;
+            this.settings = settings;
+        }
+
+        static Key of(final URI uri, final ResteasyClientBuilder builder, final Object setting) {
+            // The TLS objects do not implement equals(), the engine is only shared if the same instances are used
+            final List<Object> settings = Arrays.asList(
+                    builder.getSSLContext(),
+                    builder.getKeyStore(),
+                    builder.getKeyStorePassword(),
+                    builder.getTrustStore(),
+                    builder.getHostnameVerifier(),
+                    builder.getHostnameVerification(),
+                    builder.isTrustManagerDisabled(),
+                    builder.isTrustSelfSignedCertificates(),
+                    builder.getSniHostNames(),
+                    builder.getDefaultProxyHostname(),
+                    builder.getDefaultProxyPort(),
+                    builder.getDefaultProxyScheme(),
+                    builder.getConnectionTimeout(TimeUnit.MILLISECONDS),
+                    builder.getReadTimeout(TimeUnit.MILLISECONDS),
+                    builder.getConnectionPoolSize(),
+                    builder.getMaxPooledPerRoute(),
+                    builder.getConnectionTTL(TimeUnit.MILLISECONDS),
+                    builder.getConnectionCheckoutTimeout(TimeUnit.MILLISECONDS),
+                    builder.getResponseBufferSize(),
+                    builder.isCookieManagementEnabled(),
+                    builder.isDisableAutomaticRetries(),
+                    builder.isFollowRedirects(),
+                    setting);
+            return new Key(uri.getScheme(), uri.getHost(), uri.getPort(), settings);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(scheme, host, port, settings);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return port == other.port && Objects.equals(scheme, other.scheme) && Objects.equals(host, other.host)
+                    && settings.equals(other.settings);
+        }
+
+        @Override
+        public String toString() {
+            return scheme + "://" + host + (port < 0 ? "" : ":" + port);
+        }
+    }
+
+    /**
+     * The handle of a client to a shared engine.
+     */
+    private static class SharedClientHttpEngine implements ClientHttpEngine {
+        private final Entry entry;
+        private final AtomicBoolean closed;
+
+        private SharedClientHttpEngine(final Entry entry) {
+            this.entry = entry;
+            this.closed = new AtomicBoolean();
+        }
+
+        @Override
+        public SSLContext getSslContext() {
+            return entry.engine.getSslContext();
+        }
+
+        @Override
+        public HostnameVerifier getHostnameVerifier() {
+            return entry.engine.getHostnameVerifier();
+        }
+
+        @Override
+        public Response invoke(final Invocation request) {
+            if (closed.get()) {
+                throw new IllegalStateException("Client is closed");
+            }
+            return entry.engine.invoke(request);
+        }
+
+        @Override
+        public boolean isFollowRedirects() {
+            return entry.engine.isFollowRedirects();
+        }
+
+        @Override
+        public void setFollowRedirects(final boolean followRedirects) {
+            // The setting is part of the key, so all clients sharing the engine use the same value
+            if (followRedirects != entry.engine.isFollowRedirects()) {
+                entry.engine.setFollowRedirects(followRedirects);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                release(entry);
+            }
+        }
+    }
+}
@@ -0,0 +1,451 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client.engine;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.ProtocolFamily;
+import java.net.SocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.StandardProtocolFamily;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.client.Invocation;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.client.jaxrs.ClientHttpEngine;
+import org.jboss.resteasy.client.jaxrs.internal.ClientInvocation;
+import org.jboss.resteasy.client.jaxrs.internal.ClientResponse;
+import org.jboss.resteasy.microprofile.client.deadline.Deadline;
+import org.jboss.resteasy.microprofile.client.timeout.RequestTimeouts;
+import org.jboss.resteasy.util.CaseInsensitiveMap;
+
+/**
+ * A {@link ClientHttpEngine} which sends HTTP/1.1 requests over a Unix domain socket, for example to a sidecar running on
+ * the same host. The host of the request URI is only used for the {@code Host} header.
+ * <p>
+ * A connection is opened for each request and closed with the response. Unix domain sockets require Java 16 or later,
+ * see {@link #isSupported()}. TLS, proxies and redirects are not supported. The read timeout applies to receiving the
+ * status line and the headers of the response.
+ * </p>
+ */
+public class UnixDomainSocketClientEngine implements ClientHttpEngine {
+    private static final Logger LOGGER = Logger.getLogger(UnixDomainSocketClientEngine.class);
+
+    // The headers which are set by the engine
+    private static final Set<String> ENGINE_HEADERS = Set.of("connection", "content-length", "host", "transfer-encoding");
+
+    private final Path socket;
+    private final long readTimeout;
+    private volatile boolean followRedirects;
+
+    /**
+     * Creates a new engine.
+     *
+     * @param socket      the path of the socket
+     * @param readTimeout the timeout, in milliseconds, for receiving the response headers or {@code 0} for no timeout
+     *
+     * @throws UnsupportedOperationException if Unix domain sockets are not supported
+     */
+    public UnixDomainSocketClientEngine(final Path socket, final long readTimeout) {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("Unix domain sockets are not supported on Java "
+                    + Runtime.version().feature());
+        }
+        this.socket = socket;
+        this.readTimeout = readTimeout;
+    }
+
+    /**
+     * Indicates whether Unix domain sockets are supported by the current JVM.
+     *
+     * @return {@code true} if Unix domain sockets are supported
+     */
+    public static boolean isSupported() {
+        return UnixDomainSockets.FAMILY != null;
+    }
+
+    /**
+     * Returns the path of the socket.
+     *
+     * @return the path of the socket
+     */
+    public Path getSocket() {
+        return socket;
+    }
+
+    @Override
+    public SSLContext getSslContext() {
+        return null;
+    }
+
+    @Override
+    public HostnameVerifier getHostnameVerifier() {
+        return null;
+    }
+
+    @Override
+    public Response invoke(final Invocation inv) {
+        final ClientInvocation request = (ClientInvocation) inv;
+        final SocketChannel channel = UnixDomainSockets.connect(socket);
+        final AtomicBoolean timedOut = new AtomicBoolean();
+        // The timeout of the request replaces the timeout of the client, the deadline of the current thread, if any,
+        // shortens it
+        final RequestTimeouts timeouts = RequestTimeouts.of(request.getConfiguration());
+        final long readTimeout = Deadline.timeout(timeouts == null ? this.readTimeout : timeouts.readTimeout(this.readTimeout));
+        final ScheduledFuture<?> timeout = readTimeout > 0 ? Timeouts.EXECUTOR.schedule(() -> {
+            timedOut.set(true);
+            closeQuietly(channel);
+        }, readTimeout, TimeUnit.MILLISECONDS) : null;
+        try {
+            writeRequest(request, new BufferedOutputStream(Channels.newOutputStream(channel)));
+            final ClientResponse response = readResponse(request,
+                    new BufferedInputStream(Channels.newInputStream(channel)));
+            if (timeout != null) {
+                timeout.cancel(false);
+            }
+            return response;
+        } catch (IOException e) {
+            closeQuietly(channel);
+            if (timedOut.get()) {
+                throw new ProcessingException(new SocketTimeoutException("Read timed out"));
+            }
+            throw new ProcessingException(e);
+        } catch (RuntimeException e) {
+            closeQuietly(channel);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean isFollowRedirects() {
+        return followRedirects;
+    }
+
+    @Override
+    public void setFollowRedirects(final boolean followRedirects) {
+        if (followRedirects) {
+            LOGGER.debugf("Redirects are not followed by the engine for %s", socket);
+        }
+        this.followRedirects = followRedirects;
+    }
+
+    @Override
+    public void close() {
+        // A connection is only opened for the duration of a request
+    }
+
+    private static void writeRequest(final ClientInvocation request, final OutputStream out) throws IOException {
+        byte[] entity = null;
+        if (request.getEntity() != null) {
+            // Writing the entity may update the headers, so it must be written first
+            final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            request.getDelegatingOutputStream().setDelegate(buffer);
+            request.writeRequestBody(request.getEntityStream());
+            entity = buffer.toByteArray();
+        }
+        final URI uri = request.getUri();
+        final StringBuilder head = new StringBuilder(256)
+                .append(request.getMethod()).append(' ')
+                .append(uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath());
+        if (uri.getRawQuery() != null) {
+            head.append('?').append(uri.getRawQuery());
+        }
+        head.append(" HTTP/1.1\r\n")
+                .append("Host: ").append(uri.getHost() == null ? "localhost" : uri.getHost()).append("\r\n")
+                .append("Connection: close\r\n");
+        if (entity != null) {
+            head.append("Content-Length: ").append(entity.length).append("\r\n");
+        }
+        final MultivaluedMap<String, String> headers = request.getHeaders().asMap();
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            if (ENGINE_HEADERS.contains(header.getKey().toLowerCase(Locale.ROOT))) {
+                continue;
+            }
+            for (String value : header.getValue()) {
+                head.append(header.getKey()).append(": ").append(value).append("\r\n");
+            }
+        }
+        head.append("\r\n");
+        out.write(head.toString().getBytes(StandardCharsets.ISO_8859_1));
+        if (entity != null) {
+            out.write(entity);
+        }
+        out.flush();
+    }
+
+    private static ClientResponse readResponse(final ClientInvocation request, final InputStream in) throws IOException {
+        int status;
+        final CaseInsensitiveMap<String> headers = new CaseInsensitiveMap<>();
+        do {
+            // Skip the interim responses
+            status = parseStatus(readLine(in));
+            headers.clear();
+            String line;
+            while (!(line = readLine(in)).isEmpty()) {
+                final int colon = line.indexOf(':');
+                if (colon <= 0) {
+                    throw new IOException("Invalid header: " + line);
+                }
+                headers.add(line.substring(0, colon).trim(), line.substring(colon + 1).trim());
+            }
+        } while (status >= 100 && status < 200);
+
+        final InputStream entity;
+        final String transferEncoding = headers.getFirst("Transfer-Encoding");
+        final String contentLength = headers.getFirst("Content-Length");
+        if (HttpMethod.HEAD.equals(request.getMethod()) || status == 204 || status == 304) {
+            in.close();
+            entity = InputStream.nullInputStream();
+        } else if (transferEncoding != null && transferEncoding.toLowerCase(Locale.ROOT).contains("chunked")) {
+            entity = new ChunkedInputStream(in);
+        } else if (contentLength != null) {
+            entity = new LengthInputStream(in, Long.parseLong(contentLength));
+        } else {
+            // The entity ends when the connection is closed
+            entity = in;
+        }
+        final ClientResponse response = new InputStreamClientResponse(request, entity);
+        response.setStatus(status);
+        response.setHeaders(headers);
+        return response;
+    }
+
+    private static int parseStatus(final String statusLine) throws IOException {
+        // HTTP/1.1 200 OK
+        final String[] parts = statusLine.split(" ", 3);
+        if (parts.length < 2 || !parts[0].startsWith("HTTP/")) {
+            throw new IOException("Invalid status line: " + statusLine);
+        }
+        try {
+            return Integer.parseInt(parts[1]);
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid status line: " + statusLine, e);
+        }
+    }
+
+    private static String readLine(final InputStream in) throws IOException {
+        final StringBuilder line = new StringBuilder();
+        int c;
+        while ((c = in.read()) != '\n') {
+            if (c < 0) {
+                throw new IOException("Unexpected end of the response");
+            }
+            if (c != '\r') {
+                line.append((char) c);
+            }
+        }
+        return line.toString();
+    }
+
+    private static void closeQuietly(final SocketChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LOGGER.tracef(e, "Failed to close the connection to %s", channel);
+        }
+    }
+
+    /**
+     * An entity with a {@code Content-Length}.
+     */
+    private static class LengthInputStream extends FilterInputStream {
+        private long remaining;
+
+        LengthInputStream(final InputStream in, final long length) {
+            super(in);
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            final int b = super.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            final int read = super.read(b, off, (int) Math.min(len, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
+    }
+
+    /**
+     * An entity with a chunked {@code Transfer-Encoding}.
+     */
+    private static class ChunkedInputStream extends FilterInputStream {
+        private long remaining;
+        private boolean eof;
+
+        ChunkedInputStream(final InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final byte[] b = new byte[1];
+            return read(b, 0, 1) < 0 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (!nextChunk()) {
+                return -1;
+            }
+            final int read = super.read(b, off, (int) Math.min(len, remaining));
+            if (read < 0) {
+                throw new IOException("Unexpected end of the chunked entity");
+            }
+            remaining -= read;
+            return read;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return eof ? 0 : (int) Math.min(super.available(), remaining);
+        }
+
+        private boolean nextChunk() throws IOException {
+            if (eof) {
+                return false;
+            }
+            if (remaining > 0) {
+                return true;
+            }
+            String line = readLine(in);
+            if (line.isEmpty()) {
+                // The CRLF terminating the previous chunk
+                line = readLine(in);
+            }
+            final int extension = line.indexOf(';');
+            try {
+                remaining = Long.parseLong((extension < 0 ? line : line.substring(0, extension)).trim(), 16);
+            } catch (NumberFormatException e) {
+                throw new IOException("Invalid chunk size: " + line, e);
+            }
+            if (remaining == 0) {
+                // Skip the trailers
+                while (!readLine(in).isEmpty()) {
+                    // ignore the trailer
+                }
+                eof = true;
+                return false;
+            }
+            return true;
+        }
+    }
+
+    private static class UnixDomainSockets {
+        static final ProtocolFamily FAMILY;
+        private static final Method OPEN;
+        private static final Method ADDRESS;
+
+        static {
+            ProtocolFamily family = null;
+            Method open = null;
+            Method address = null;
+            try {
+                // SocketChannel.open(StandardProtocolFamily.UNIX) and UnixDomainSocketAddress.of(Path)
+                final ProtocolFamily unix = StandardProtocolFamily.valueOf("UNIX");
+                open = SocketChannel.class.getMethod("open", ProtocolFamily.class);
+                address = Class.forName("java.net.UnixDomainSocketAddress").getMethod("of", Path.class);
+                family = unix;
+            } catch (ReflectiveOperationException | IllegalArgumentException e) {
+                LOGGER.debugf(e, "Unix domain sockets are not supported on Java %d", Runtime.version().feature());
+            }
+            FAMILY = family;
+            OPEN = open;
+            ADDRESS = address;
+        }
+
+        static SocketChannel connect(final Path socket) {
+            SocketChannel channel = null;
+            try {
+                channel = (SocketChannel) OPEN.invoke(null, FAMILY);
+                channel.connect((SocketAddress) ADDRESS.invoke(null, socket));
+                return channel;
+            } catch (IOException | ReflectiveOperationException e) {
+                if (channel != null) {
+                    closeQuietly(channel);
+                }
+                throw new ProcessingException("Failed to connect to " + socket,
+                        e instanceof InvocationTargetException ? e.getCause() : e);
+            }
+        }
+    }
+
+    private static class Timeouts {
+        static final ScheduledExecutorService EXECUTOR;
+
+        static {
+            final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, r -> {
+                final Thread thread = new Thread(r, "rest-client-uds-timeout");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.setRemoveOnCancelPolicy(true);
+            EXECUTOR = executor;
+        }
+    }
+}
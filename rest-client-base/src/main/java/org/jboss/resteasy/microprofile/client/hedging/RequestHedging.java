@@ -0,0 +1,220 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client.hedging;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.ws.rs.HttpMethod;
+
+import org.reactivestreams.Publisher;
+
+/**
+ * The hedging policy of a client. If the response to a request of a hedged method was not received within a percentile
+ * of the latency measured for the method, a second request is sent and the first response wins. The number of
+ * additional requests is limited by a budget relative to the number of requests.
+ * <p>
+ * The methods annotated with {@link Hedged} are hedged. If the policy applies to all safe methods, the methods using
+ * {@code GET}, {@code HEAD} or {@code OPTIONS} are hedged as well. Only methods returning a
+ * {@link java.util.concurrent.CompletionStage} are hedged. The entity of a request may be sent twice, so the methods
+ * with a parameter which can only be read once, like an {@link InputStream}, are never hedged, and neither are requests
+ * with such an entity.
+ * </p>
+ */
+public final class RequestHedging {
+    /**
+     * The name of the client property holding the policy of the client.
+     */
+    public static final String PROPERTY = RequestHedging.class.getName();
+
+    private static final Set<String> SAFE_METHODS = Set.of(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS);
+    // The budget is counted in thousandths of a request
+    private static final long HEDGE_COST = 1000;
+    // The number of hedged requests which can be sent in a burst
+    private static final long MAX_BUDGET = 10 * HEDGE_COST;
+    private static final LatencyStats NOT_HEDGED = new LatencyStats(0);
+
+    private final boolean safeMethods;
+    private final double percentile;
+    private final long budgetPerRequest;
+    private final AtomicLong budget;
+    private final LongAdder hedged;
+    private final ConcurrentMap<Method, LatencyStats> stats;
+
+    /**
+     * Creates a new policy.
+     *
+     * @param safeMethods   {@code true} if all methods using a safe HTTP method are hedged
+     * @param percentile    the percentile of the latency after which a second request is sent, between {@code 0} and
+     *                          {@code 100}
+     * @param budgetPercent the maximum number of additional requests in percent of the requests
+     */
+    public RequestHedging(final boolean safeMethods, final double percentile, final double budgetPercent) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("Invalid percentile " + percentile);
+        }
+        if (budgetPercent < 0) {
+            throw new IllegalArgumentException("Invalid budget " + budgetPercent);
+        }
+        this.safeMethods = safeMethods;
+        this.percentile = percentile;
+        this.budgetPerRequest = Math.round(budgetPercent * HEDGE_COST / 100);
+        this.budget = new AtomicLong();
+        this.hedged = new LongAdder();
+        this.stats = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the latency statistics of a method if it is hedged.
+     *
+     * @param method     the client method
+     * @param httpMethod the HTTP method of the request
+     *
+     * @return the statistics or {@code null} if the method is not hedged
+     */
+    public LatencyStats stats(final Method method, final String httpMethod) {
+        final LatencyStats result = stats.computeIfAbsent(method,
+                m -> isHedged(m, httpMethod) ? new LatencyStats(percentile) : NOT_HEDGED);
+        return result == NOT_HEDGED ? null : result;
+    }
+
+    /**
+     * Records a request of a hedged method, which adds to the budget.
+     */
+    public void onRequest() {
+        budget.accumulateAndGet(budgetPerRequest, (current, value) -> Math.min(MAX_BUDGET, current + value));
+    }
+
+    /**
+     * Takes an additional request from the budget.
+     *
+     * @return {@code true} if the budget allows an additional request
+     */
+    public boolean tryHedge() {
+        for (;;) {
+            final long current = budget.get();
+            if (current < HEDGE_COST) {
+                return false;
+            }
+            if (budget.compareAndSet(current, current - HEDGE_COST)) {
+                hedged.increment();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * The number of additional requests sent since the client was created.
+     *
+     * @return the number of hedged requests
+     */
+    public long getHedged() {
+        return hedged.sum();
+    }
+
+    /**
+     * Checks whether an entity can be sent more than once.
+     *
+     * @param entity the entity of the request or {@code null}
+     *
+     * @return {@code true} if the entity can be sent again
+     */
+    public static boolean isRepeatable(final Object entity) {
+        return entity == null || !isStream(entity.getClass());
+    }
+
+    private static boolean isStream(final Class<?> type) {
+        return InputStream.class.isAssignableFrom(type) || Reader.class.isAssignableFrom(type)
+                || Publisher.class.isAssignableFrom(type) || Flow.Publisher.class.isAssignableFrom(type);
+    }
+
+    private boolean isHedged(final Method method, final String httpMethod) {
+        // A stream is consumed by the first request
+        for (Class<?> type : method.getParameterTypes()) {
+            if (isStream(type)) {
+                return false;
+            }
+        }
+        if (method.isAnnotationPresent(Hedged.class) || method.getDeclaringClass().isAnnotationPresent(Hedged.class)) {
+            return true;
+        }
+        return safeMethods && SAFE_METHODS.contains(httpMethod);
+    }
+
+    /**
+     * The latency of the recent requests of a method.
+     */
+    public static final class LatencyStats {
+        private static final int SIZE = 128;
+        private static final int MIN_SAMPLES = 20;
+        // The percentile is computed again after this number of samples
+        private static final int REFRESH = 16;
+
+        private final double percentile;
+        private final AtomicLongArray samples;
+        private final AtomicLong count;
+        private volatile long delay;
+
+        private LatencyStats(final double percentile) {
+            this.percentile = percentile;
+            this.samples = new AtomicLongArray(SIZE);
+            this.count = new AtomicLong();
+            this.delay = -1;
+        }
+
+        /**
+         * Records the latency of a request. Only the latency of the request which completed the invocation is recorded,
+         * the other request was either cancelled or slower.
+         *
+         * @param nanos the latency in nanoseconds
+         */
+        public void record(final long nanos) {
+            final long n = count.getAndIncrement();
+            samples.set((int) (n % SIZE), nanos);
+            if (n + 1 >= MIN_SAMPLES && (delay < 0 || n % REFRESH == 0)) {
+                final long[] copy = new long[(int) Math.min(n + 1, SIZE)];
+                for (int i = 0; i < copy.length; i++) {
+                    copy[i] = samples.get(i);
+                }
+                Arrays.sort(copy);
+                final int index = (int) Math.ceil(percentile / 100 * copy.length) - 1;
+                delay = copy[Math.max(0, Math.min(copy.length - 1, index))];
+            }
+        }
+
+        /**
+         * The time after which a second request is sent.
+         *
+         * @return the delay in nanoseconds or {@code -1} if not enough requests were measured yet
+         */
+        public long getDelay() {
+            return delay;
+        }
+    }
+}
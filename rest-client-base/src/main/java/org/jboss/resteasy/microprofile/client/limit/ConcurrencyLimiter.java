@@ -0,0 +1,231 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client.limit;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.client.ResponseProcessingException;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Limits the number of concurrent requests of a client. The limit is adjusted from the measured latency: while the
+ * latency of the requests stays close to its long-term average the limit grows, when the latency increases, which
+ * means requests are queued somewhere, the limit shrinks. Requests failing with a {@link ProcessingException}, for
+ * example a timeout, reduce the limit as well.
+ * <p>
+ * Invocations exceeding the limit fail immediately with a {@link RequestRejectedException}.
+ * </p>
+ */
+public final class ConcurrencyLimiter {
+    private static final Logger LOGGER = Logger.getLogger(ConcurrencyLimiter.class);
+
+    // The number of samples the long-term latency is averaged over
+    private static final double LONG_WINDOW = 100;
+    // The ratio of the latency increase tolerated before the limit is reduced
+    private static final double TOLERANCE = 1.5;
+    // The weight of a new estimate of the limit
+    private static final double SMOOTHING = 0.2;
+    // The factor the limit is multiplied with when a request failed
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight;
+    private final LongAdder rejected;
+    private volatile int limit;
+    private volatile Runnable releaseListener;
+
+    // Guarded by this
+    private double estimatedLimit;
+    private double longRtt;
+
+    /**
+     * Creates a new limiter.
+     *
+     * @param name         the name used in messages, for example the client interface
+     * @param initialLimit the limit until enough requests were measured
+     * @param minLimit     the lowest limit
+     * @param maxLimit     the highest limit
+     */
+    public ConcurrencyLimiter(final String name, final int initialLimit, final int minLimit, final int maxLimit) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException(String.format("Invalid limits %d - %d for %s", minLimit, maxLimit, name));
+        }
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.inFlight = new AtomicInteger();
+        this.rejected = new LongAdder();
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimatedLimit;
+    }
+
+    /**
+     * Acquires a permit for a request.
+     *
+     * @return the permit which must be released exactly once when the request completed
+     *
+     * @throws RequestRejectedException if the limit is reached
+     */
+    public Permit acquire() throws RequestRejectedException {
+        final Permit permit = tryAcquire();
+        if (permit == null) {
+            rejected.increment();
+            throw new RequestRejectedException(String.format("The concurrency limit %d of %s is reached", limit, name));
+        }
+        return permit;
+    }
+
+    /**
+     * Acquires a permit for a request if the limit is not reached. The request is not counted as rejected otherwise.
+     *
+     * @return the permit which must be released exactly once when the request completed, or {@code null} if the limit
+     *             is reached
+     */
+    Permit tryAcquire() {
+        for (;;) {
+            final int current = inFlight.get();
+            if (current >= limit) {
+                return null;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return new Permit(current + 1);
+            }
+        }
+    }
+
+    /**
+     * Sets the listener invoked after a permit was released.
+     *
+     * @param releaseListener the listener
+     */
+    void setReleaseListener(final Runnable releaseListener) {
+        this.releaseListener = releaseListener;
+    }
+
+    /**
+     * The current limit.
+     *
+     * @return the maximum number of concurrent requests
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * The number of requests currently in flight.
+     *
+     * @return the number of requests in flight
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * The number of requests rejected since the limiter was created.
+     *
+     * @return the number of rejected requests
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    private synchronized void onSample(final long rtt, final int inFlightAtStart, final boolean dropped) {
+        final int previous = limit;
+        if (dropped) {
+            estimatedLimit = Math.max(minLimit, estimatedLimit * BACKOFF_RATIO);
+        } else {
+            final double sample = Math.max(1, rtt);
+            longRtt = longRtt == 0 ? sample : longRtt + (sample - longRtt) / LONG_WINDOW;
+            // Recover quickly once the latency dropped, e.g. after a slow period
+            if (longRtt > sample * 2) {
+                longRtt *= 0.95;
+            }
+            // A limit which is not used cannot be verified, so it is not increased
+            if (inFlightAtStart < estimatedLimit / 2) {
+                return;
+            }
+            final double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRtt / sample));
+            final double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+            estimatedLimit = Math.max(minLimit,
+                    Math.min(maxLimit, estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING));
+        }
+        limit = (int) estimatedLimit;
+        if (limit != previous) {
+            LOGGER.debugf("Changed the concurrency limit of %s from %d to %d", name, previous, limit);
+        }
+    }
+
+    /**
+     * A permit for a single request.
+     */
+    public final class Permit {
+        private final long start;
+        private final int inFlightAtStart;
+
+        private Permit(final int inFlightAtStart) {
+            this.start = System.nanoTime();
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        /**
+         * Releases the permit and records the latency of the request.
+         *
+         * @param error the error the request failed with or {@code null} if a response was received
+         */
+        public void release(final Throwable error) {
+            final Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause()
+                    : error;
+            // The latency of a cancelled request is not known
+            if (cause instanceof CancellationException || cause instanceof RequestRejectedException) {
+                ignore();
+                return;
+            }
+            inFlight.decrementAndGet();
+            // A response was received, even if it could not be processed
+            final boolean dropped = cause instanceof ProcessingException && !(cause instanceof ResponseProcessingException);
+            onSample(System.nanoTime() - start, inFlightAtStart, dropped);
+            onRelease();
+        }
+
+        /**
+         * Releases the permit without recording the request. This is used for requests which were ended by the
+         * caller, for example cancelled or aborted because the deadline of the caller expired, as their outcome does
+         * not tell anything about the server.
+         */
+        public void ignore() {
+            inFlight.decrementAndGet();
+            onRelease();
+        }
+
+        private void onRelease() {
+            final Runnable listener = releaseListener;
+            if (listener != null) {
+                listener.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client.limit;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Limits the rate of the requests of a client with a token bucket. The rate adapts to the server: a {@code 429}
+ * response halves the rate, down to a tenth of the configured rate, and every other response recovers a part of it. A
+ * {@code Retry-After} header of a {@code 429} or {@code 503} response pauses the requests until the given time.
+ * <p>
+ * An invocation waits until a token is available. If the wait would exceed the maximum wait, the invocation fails
+ * immediately with a {@link RequestRejectedException}.
+ * </p>
+ */
+public final class RateLimiter {
+    private static final Logger LOGGER = Logger.getLogger(RateLimiter.class);
+
+    // The factor the rate is multiplied with when the server signals too many requests
+    private static final double BACKOFF_RATIO = 0.5;
+    // The share of the configured rate recovered with each other response
+    private static final double RECOVERY_RATIO = 0.05;
+    // The lowest rate as a share of the configured rate
+    private static final double MIN_RATE_RATIO = 0.1;
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final String name;
+    private final double maxRate;
+    private final double burst;
+    private final long maxWait;
+    private final LongAdder rejected;
+
+    // Guarded by this
+    private double rate;
+    private double tokens;
+    private long refilled;
+
+    /**
+     * Creates a new limiter.
+     *
+     * @param name    the name used in messages, for example the client interface
+     * @param rate    the number of requests per second
+     * @param burst   the number of requests which may be sent at once after an idle period
+     * @param maxWait the maximum time in milliseconds an invocation waits for a token
+     */
+    public RateLimiter(final String name, final double rate, final int burst, final long maxWait) {
+        if (!(rate > 0) || burst < 1 || maxWait < 0) {
+            throw new IllegalArgumentException(String.format("Invalid rate %s, burst %d or maximum wait %d for %s", rate,
+                    burst, maxWait, name));
+        }
+        this.name = name;
+        this.maxRate = rate;
+        this.burst = burst;
+        this.maxWait = TimeUnit.MILLISECONDS.toNanos(maxWait);
+        this.rejected = new LongAdder();
+        this.rate = rate;
+        this.tokens = burst;
+        this.refilled = System.nanoTime();
+    }
+
+    /**
+     * Reserves a token for a request.
+     *
+     * @return the time in nanoseconds the request must wait before it is sent
+     *
+     * @throws RequestRejectedException if the request would have to wait longer than the maximum wait
+     */
+    public long reserve() throws RequestRejectedException {
+        final long wait;
+        synchronized (this) {
+            final long now = System.nanoTime();
+            refill(now);
+            // The refill time is in the future while the requests are paused
+            final long delay = Math.max(0, refilled - now)
+                    + (tokens >= 1 ? 0 : (long) ((1 - tokens) / rate * NANOS_PER_SECOND));
+            if (delay > maxWait) {
+                wait = -1;
+            } else {
+                tokens--;
+                wait = delay;
+            }
+        }
+        if (wait < 0) {
+            rejected.increment();
+            throw new RequestRejectedException(String.format("The rate limit of %s is reached", name));
+        }
+        return wait;
+    }
+
+    /**
+     * Adapts the rate to a response of the server.
+     *
+     * @param status     the status of the response
+     * @param retryAfter the value of the {@code Retry-After} header or {@code null}
+     */
+    public void onResponse(final int status, final String retryAfter) {
+        if (status != 429 && status != 503) {
+            if (rate < maxRate) {
+                synchronized (this) {
+                    refill(System.nanoTime());
+                    rate = Math.min(maxRate, rate + maxRate * RECOVERY_RATIO);
+                }
+            }
+            return;
+        }
+        final long pause = parseRetryAfter(retryAfter);
+        synchronized (this) {
+            final long now = System.nanoTime();
+            refill(now);
+            if (status == 429) {
+                rate = Math.max(maxRate * MIN_RATE_RATIO, rate * BACKOFF_RATIO);
+            }
+            if (pause > 0 && refilled - (now + pause) < 0) {
+                // A single request is sent when the pause ended, no tokens are added until then
+                tokens = Math.min(tokens, 1);
+                refilled = now + pause;
+            }
+        }
+        LOGGER.debugf("Received status %d from the server of %s, the rate is %.2f/s and the requests are paused for %d ms",
+                status, name, getRate(), TimeUnit.NANOSECONDS.toMillis(pause));
+    }
+
+    /**
+     * The current rate.
+     *
+     * @return the number of requests per second
+     */
+    public synchronized double getRate() {
+        return rate;
+    }
+
+    /**
+     * The number of requests rejected since the limiter was created.
+     *
+     * @return the number of rejected requests
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    private void refill(final long now) {
+        if (now - refilled > 0) {
+            tokens = Math.min(burst, tokens + (now - refilled) * rate / NANOS_PER_SECOND);
+            refilled = now;
+        }
+    }
+
+    /**
+     * Parses the value of a {@code Retry-After} header, either the delay in seconds or an HTTP date.
+     *
+     * @return the delay in nanoseconds or {@code 0} if the value is missing or invalid
+     */
+    static long parseRetryAfter(final String value) {
+        if (value == null || value.isBlank()) {
+            return 0;
+        }
+        try {
+            return TimeUnit.SECONDS.toNanos(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException ignore) {
+            // not a delay in seconds
+        }
+        try {
+            final Instant date = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            return Math.max(0, Duration.between(Instant.now(), date).toNanos());
+        } catch (DateTimeParseException | ArithmeticException e) {
+            LOGGER.debugf("Ignoring the invalid Retry-After header %s", value);
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client.limit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The priority of the requests of a client method, or of all methods of a client interface. When the
+ * {@linkplain RequestScheduler scheduler} of a client is enabled and the requests have to wait, the requests with the
+ * higher value are sent first and the requests with the lowest value are shed when the queue is full.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+public @interface RequestPriority {
+
+    /**
+     * The priority of interactive requests, for example on behalf of a user.
+     */
+    int INTERACTIVE = 100;
+
+    /**
+     * The priority of requests without a priority.
+     */
+    int DEFAULT = 0;
+
+    /**
+     * The priority of batch requests which can be delayed or shed first.
+     */
+    int BATCH = -100;
+
+    /**
+     * The priority, a higher value is sent first.
+     *
+     * @return the priority
+     */
+    int value();
+}
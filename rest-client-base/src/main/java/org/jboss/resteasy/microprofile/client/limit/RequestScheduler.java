@@ -0,0 +1,191 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client.limit;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Schedules the requests of a client by {@linkplain RequestPriority priority}. The number of concurrent requests is
+ * limited by a {@link ConcurrencyLimiter}. Requests exceeding the limit wait in a bounded queue and are admitted by
+ * priority, then in arrival order, when a request completes. When the queue is full the request with the lowest
+ * priority, which may be the new request itself, fails with a {@link RequestRejectedException}.
+ */
+public final class RequestScheduler {
+    private static final Comparator<Waiter> ORDER = Comparator.<Waiter> comparingInt(waiter -> waiter.priority).reversed()
+            .thenComparingLong(waiter -> waiter.sequence);
+
+    private final String name;
+    private final ConcurrencyLimiter limiter;
+    private final int queueSize;
+    private final int defaultPriority;
+    private final LongAdder shed;
+
+    // Guarded by this
+    private final TreeSet<Waiter> queue;
+    private long sequence;
+
+    /**
+     * Creates a new scheduler.
+     *
+     * @param name            the name used in messages, for example the client interface
+     * @param limiter         the limiter of the concurrent requests, must only be used by this scheduler
+     * @param queueSize       the maximum number of waiting requests
+     * @param defaultPriority the priority of the requests of methods without a {@link RequestPriority}
+     */
+    public RequestScheduler(final String name, final ConcurrencyLimiter limiter, final int queueSize,
+            final int defaultPriority) {
+        if (queueSize < 0) {
+            throw new IllegalArgumentException(String.format("Invalid queue size %d for %s", queueSize, name));
+        }
+        this.name = name;
+        this.limiter = limiter;
+        this.queueSize = queueSize;
+        this.defaultPriority = defaultPriority;
+        this.shed = new LongAdder();
+        this.queue = new TreeSet<>(ORDER);
+        limiter.setReleaseListener(this::dispatch);
+    }
+
+    /**
+     * Schedules a request. The returned future is completed with the permit of the request once it is admitted, or
+     * with a {@link RequestRejectedException} if it is shed. Cancelling the future removes the request from the queue.
+     *
+     * @param priority the priority of the request
+     *
+     * @return the future permit which must be released exactly once when the request completed
+     */
+    public CompletableFuture<ConcurrencyLimiter.Permit> schedule(final int priority) {
+        final CompletableFuture<ConcurrencyLimiter.Permit> admission = new CompletableFuture<>();
+        final Waiter rejected;
+        synchronized (this) {
+            if (queue.isEmpty()) {
+                final ConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+                if (permit != null) {
+                    admission.complete(permit);
+                    return admission;
+                }
+            }
+            final Waiter waiter = new Waiter(admission, priority, sequence++);
+            queue.add(waiter);
+            rejected = queue.size() > queueSize ? queue.pollLast() : null;
+        }
+        if (rejected != null) {
+            shed.increment();
+            rejected.admission.completeExceptionally(new RequestRejectedException(
+                    String.format("The queue of %s is full, shed a request with the priority %d", name, rejected.priority)));
+        }
+        admission.whenComplete((permit, error) -> {
+            if (admission.isCancelled()) {
+                remove(admission);
+            }
+        });
+        // A permit may have been released before the request was queued
+        dispatch();
+        return admission;
+    }
+
+    /**
+     * The priority of the requests of methods without a {@link RequestPriority}.
+     *
+     * @return the default priority
+     */
+    public int getDefaultPriority() {
+        return defaultPriority;
+    }
+
+    /**
+     * The limiter of the concurrent requests.
+     *
+     * @return the limiter
+     */
+    public ConcurrencyLimiter getLimiter() {
+        return limiter;
+    }
+
+    /**
+     * The number of requests currently waiting.
+     *
+     * @return the number of waiting requests
+     */
+    public synchronized int getQueued() {
+        return queue.size();
+    }
+
+    /**
+     * The number of requests shed since the scheduler was created.
+     *
+     * @return the number of shed requests
+     */
+    public long getShed() {
+        return shed.sum();
+    }
+
+    private void dispatch() {
+        final List<Admitted> admitted = new ArrayList<>();
+        synchronized (this) {
+            while (!queue.isEmpty()) {
+                final ConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+                if (permit == null) {
+                    break;
+                }
+                admitted.add(new Admitted(queue.pollFirst(), permit));
+            }
+        }
+        // Complete outside the lock, the dependent actions send the requests
+        for (Admitted entry : admitted) {
+            if (!entry.waiter.admission.complete(entry.permit)) {
+                // Cancelled in the meantime, the permit is passed on to the next request
+                entry.permit.ignore();
+            }
+        }
+    }
+
+    private synchronized void remove(final CompletableFuture<ConcurrencyLimiter.Permit> admission) {
+        queue.removeIf(waiter -> waiter.admission == admission);
+    }
+
+    private static final class Waiter {
+        private final CompletableFuture<ConcurrencyLimiter.Permit> admission;
+        private final int priority;
+        private final long sequence;
+
+        private Waiter(final CompletableFuture<ConcurrencyLimiter.Permit> admission, final int priority,
+                final long sequence) {
+            this.admission = admission;
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+    }
+
+    private static final class Admitted {
+        private final Waiter waiter;
+        private final ConcurrencyLimiter.Permit permit;
+
+        private Admitted(final Waiter waiter, final ConcurrencyLimiter.Permit permit) {
+            this.waiter = waiter;
+            this.permit = permit;
+        }
+    }
+}
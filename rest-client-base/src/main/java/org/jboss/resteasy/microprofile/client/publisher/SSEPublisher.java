@@ -35,6 +35,7 @@ import jakarta.ws.rs.sse.InboundSseEvent;
 import org.jboss.logging.Logger;
 import org.jboss.resteasy.concurrent.ContextualExecutorService;
 import org.jboss.resteasy.concurrent.ContextualExecutors;
+import org.jboss.resteasy.microprofile.client.utils.VirtualThreads;
 import org.jboss.resteasy.plugins.providers.sse.SseEventInputImpl;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
@@ -125,7 +126,11 @@ public class SSEPublisher<T> implements Publisher<T> {
             executor.execute(readEventTask);
         } catch (RejectedExecutionException e) {
             LOGGER.warnf("Executor %s rejected emit event task", executor);
-            new Thread(readEventTask, "SseClientPublisherNewThread").start();
+            // Prefer a virtual thread as the task blocks for the lifetime of the stream
+            final Thread thread = VirtualThreads.isSupported() ? VirtualThreads.newThread(readEventTask)
+                    : new Thread(readEventTask);
+            thread.setName("SseClientPublisherNewThread");
+            thread.start();
         }
     }
 
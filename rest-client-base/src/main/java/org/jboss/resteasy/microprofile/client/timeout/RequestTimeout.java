@@ -0,0 +1,61 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client.timeout;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Sets the timeouts of the requests of a client method, which replace the timeouts of the client. The MicroProfile
+ * Config properties {@code <fully-qualified-interface-name>/mp-rest/methods/<method>/connectTimeout} and
+ * {@code .../readTimeout}, or the same properties with the {@code configKey}, take precedence over the annotation.
+ * <p>
+ * The {@code <method>} is either the signature of the method, its name followed by the fully qualified names of the
+ * parameter types, e.g. {@code get(java.lang.String,int)}, or only its name. A property with the signature takes
+ * precedence, a property with the name applies to all overloaded methods of the name. The methods of sub-resources
+ * use the properties of the client interface.
+ * </p>
+ * <p>
+ * The read timeout is supported by the default, the {@code java-http-client} and the Unix domain socket engines, the
+ * connect timeout only by the default engine.
+ * </p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface RequestTimeout {
+
+    /**
+     * The timeout in milliseconds for establishing the connection, negative to use the timeout of the client.
+     *
+     * @return the connect timeout
+     */
+    long connectTimeout() default -1;
+
+    /**
+     * The timeout in milliseconds for receiving the response, negative to use the timeout of the client.
+     *
+     * @return the read timeout
+     */
+    long readTimeout() default -1;
+}
@@ -0,0 +1,69 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client.timeout;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientRequestFilter;
+
+/**
+ * Sets the {@link RequestTimeouts} of the invoked client method on the request. The timeouts of a method are resolved
+ * on its first invocation, so the methods of sub-resources are supported.
+ */
+@Priority(Integer.MIN_VALUE + 1)
+public class RequestTimeoutFilter implements ClientRequestFilter {
+    // Set by the MethodInjectionFilter, which runs first
+    private static final String INVOKED_METHOD = "org.eclipse.microprofile.rest.client.invokedMethod";
+    // Marks the methods without timeouts, the map does not allow null values
+    private static final RequestTimeouts NONE = new RequestTimeouts(-1, -1);
+
+    private final Function<Method, RequestTimeouts> resolver;
+    private final Map<Method, RequestTimeouts> timeouts;
+
+    /**
+     * Creates a new filter.
+     *
+     * @param resolver resolves the timeouts of a method, returns {@code null} if the method has none
+     */
+    public RequestTimeoutFilter(final Function<Method, RequestTimeouts> resolver) {
+        this.resolver = resolver;
+        this.timeouts = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void filter(final ClientRequestContext requestContext) {
+        final Object method = requestContext.getProperty(INVOKED_METHOD);
+        if (!(method instanceof Method)) {
+            return;
+        }
+        final RequestTimeouts requestTimeouts = timeouts.computeIfAbsent((Method) method, m -> {
+            final RequestTimeouts resolved = resolver.apply(m);
+            return resolved == null ? NONE : resolved;
+        });
+        if (requestTimeouts != NONE) {
+            requestContext.setProperty(RequestTimeouts.PROPERTY, requestTimeouts);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client.timeout;
+
+import jakarta.ws.rs.core.Configuration;
+
+/**
+ * The timeouts of a request, which replace the timeouts of the client. The timeouts are passed to the engine in the
+ * {@value #PROPERTY} property of the request.
+ */
+public final class RequestTimeouts {
+    /**
+     * The property of a request holding its timeouts.
+     */
+    public static final String PROPERTY = "dev.resteasy.mp.rest.client.requestTimeouts";
+
+    private final long connectTimeout;
+    private final long readTimeout;
+
+    /**
+     * Creates new timeouts.
+     *
+     * @param connectTimeout the connect timeout in milliseconds, negative to use the timeout of the client
+     * @param readTimeout    the read timeout in milliseconds, negative to use the timeout of the client
+     */
+    public RequestTimeouts(final long connectTimeout, final long readTimeout) {
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+    }
+
+    /**
+     * Returns the timeouts of a request.
+     *
+     * @param configuration the configuration of the request
+     *
+     * @return the timeouts or {@code null} if the timeouts of the client apply
+     */
+    public static RequestTimeouts of(final Configuration configuration) {
+        final Object timeouts = configuration.getProperty(PROPERTY);
+        return timeouts instanceof RequestTimeouts ? (RequestTimeouts) timeouts : null;
+    }
+
+    /**
+     * The connect timeout.
+     *
+     * @return the timeout in milliseconds, negative if the timeout of the client applies
+     */
+    public long getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * The read timeout.
+     *
+     * @return the timeout in milliseconds, negative if the timeout of the client applies
+     */
+    public long getReadTimeout() {
+        return readTimeout;
+    }
+
+    /**
+     * Returns the connect timeout of the request.
+     *
+     * @param clientTimeout the timeout of the client
+     *
+     * @return the timeout of the request if set, otherwise the timeout of the client
+     */
+    public long connectTimeout(final long clientTimeout) {
+        return connectTimeout >= 0 ? connectTimeout : clientTimeout;
+    }
+
+    /**
+     * Returns the read timeout of the request.
+     *
+     * @param clientTimeout the timeout of the client
+     *
+     * @return the timeout of the request if set, otherwise the timeout of the client
+     */
+    public long readTimeout(final long clientTimeout) {
+        return readTimeout >= 0 ? readTimeout : clientTimeout;
+    }
+
+    @Override
+    public String toString() {
+        return "RequestTimeouts[connectTimeout=" + connectTimeout + ", readTimeout=" + readTimeout + "]";
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client.utils;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Access to virtual threads. Virtual threads are only available on Java 21 or later, while this project targets Java 11,
+ * so the API is accessed reflectively.
+ */
+public final class VirtualThreads {
+    private static final Logger LOGGER = Logger.getLogger(VirtualThreads.class);
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Indicates whether virtual threads are supported by the current JVM.
+     *
+     * @return {@code true} if virtual threads are supported
+     */
+    public static boolean isSupported() {
+        return Holder.FACTORY != null;
+    }
+
+    /**
+     * Creates an executor which starts a new virtual thread for each task.
+     *
+     * @return a new executor
+     *
+     * @throws UnsupportedOperationException if virtual threads are not supported
+     */
+    public static ExecutorService newExecutor() {
+        final ThreadFactory factory = getFactory();
+        try {
+            final Method method = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) method.invoke(null, factory);
+        } catch (ReflectiveOperationException e) {
+            throw new UnsupportedOperationException("Failed to create a virtual thread executor", e);
+        }
+    }
+
+    /**
+     * Creates a new, unstarted, virtual thread.
+     *
+     * @param task the task the thread runs
+     *
+     * @return the new thread
+     *
+     * @throws UnsupportedOperationException if virtual threads are not supported
+     */
+    public static Thread newThread(final Runnable task) {
+        return getFactory().newThread(task);
+    }
+
+    private static ThreadFactory getFactory() {
+        final ThreadFactory factory = Holder.FACTORY;
+        if (factory == null) {
+            throw new UnsupportedOperationException("Virtual threads are not supported on Java "
+                    + Runtime.version().feature());
+        }
+        return factory;
+    }
+
+    private static class Holder {
+        static final ThreadFactory FACTORY;
+
+        static {
+            ThreadFactory factory = null;
+            try {
+                // Thread.ofVirtual().name("rest-client-virtual-", 0).factory()
+                final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+                final Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+                final Object named = builderType.getMethod("name", String.class, long.class)
+                        .invoke(builder, "rest-client-virtual-", 0L);
+                factory = (ThreadFactory) builderType.getMethod("factory").invoke(named);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                LOGGER.debugf(e, "Virtual threads are not supported on Java %d", Runtime.version().feature());
+            }
+            FACTORY = factory;
+        }
+    }
+}
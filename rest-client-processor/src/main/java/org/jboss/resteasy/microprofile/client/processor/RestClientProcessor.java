@@ -0,0 +1,398 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+/**
+ * An annotation processor which verifies interfaces annotated with
+ * {@link org.eclipse.microprofile.rest.client.inject.RegisterRestClient @RegisterRestClient} at compile time.
+ * <p>
+ * The same checks the {@code RestClientBuilderImpl} executes when a client is built are executed by this processor. An
+ * invalid interface fails the compilation. For each valid interface a class named
+ * {@code <binary name of the interface>$$RestClientVerified} is generated in the package of the interface. If the class
+ * is present at runtime, the verification is skipped when the client is built. Only the {@code @Batched} methods are
+ * still checked at runtime, which covers interfaces compiled by a processor not aware of them.
+ * </p>
+ * <p>
+ * The processor does not depend on the Jakarta REST or MicroProfile REST Client API's, annotations are matched by name.
+ * </p>
+ */
+@SupportedAnnotationTypes(RestClientProcessor.REGISTER_REST_CLIENT)
+public class RestClientProcessor extends AbstractProcessor {
+
+    /**
+     * The suffix appended to the binary name of the interface for the generated class.
+     */
+    public static final String VERIFIED_SUFFIX = "$$RestClientVerified";
+
+    static final String REGISTER_REST_CLIENT = "org.eclipse.microprofile.rest.client.inject.RegisterRestClient";
+    private static final String HTTP_METHOD = "jakarta.ws.rs.HttpMethod";
+    private static final String PATH = "jakarta.ws.rs.Path";
+    private static final String PATH_PARAM = "jakarta.ws.rs.PathParam";
+    private static final String BEAN_PARAM = "jakarta.ws.rs.BeanParam";
+    private static final String RESTEASY_PATH_PARAM = "org.jboss.resteasy.annotations.jaxrs.PathParam";
+    private static final String BATCHED = "org.jboss.resteasy.microprofile.client.batch.Batched";
+    private static final String COMPLETION_STAGE = "java.util.concurrent.CompletionStage";
+    private static final Set<String> IGNORED_TYPES = Set.of("java.lang.AutoCloseable", "java.io.Closeable");
+
+    private Elements elements;
+    private Types types;
+    private Messager messager;
+    private Filer filer;
+
+    @Override
+    public synchronized void init(final ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        elements = processingEnv.getElementUtils();
+        types = processingEnv.getTypeUtils();
+        messager = processingEnv.getMessager();
+        filer = processingEnv.getFiler();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (TypeElement type : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(annotation))) {
+                if (type.getKind() != ElementKind.INTERFACE) {
+                    continue;
+                }
+                if (verifyInterface(type)) {
+                    generateVerified(type);
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean verifyInterface(final TypeElement type) {
+        final List<ExecutableElement> methods = resolveMethods(type);
+        boolean valid = true;
+
+        // multiple verbs
+        for (ExecutableElement method : methods) {
+            int httpMethods = 0;
+            for (AnnotationMirror annotation : method.getAnnotationMirrors()) {
+                if (isHttpMethod(annotation)) {
+                    httpMethods++;
+                }
+            }
+            if (httpMethods > 1) {
+                error(method, "Ambiguous @HttpMethod definition on type %s", type.getQualifiedName());
+                valid = false;
+            }
+        }
+
+        // invalid batch methods
+        for (ExecutableElement method : methods) {
+            if (!verifyBatched(type, method)) {
+                valid = false;
+            }
+        }
+
+        // invalid parameter
+        final String classPath = getValue(type, PATH);
+        for (ExecutableElement method : methods) {
+            final String methodPath = getValue(method, PATH);
+            final String template;
+            if (methodPath != null) {
+                template = classPath == null ? methodPath : classPath + "/" + methodPath;
+            } else if (classPath != null) {
+                template = classPath;
+            } else {
+                continue;
+            }
+            final Set<String> variables = getPathParamNames(template);
+            if (variables == null) {
+                error(method, "Invalid path template \"%s\" on %s::%s", template, type.getQualifiedName(),
+                        method.getSimpleName());
+                valid = false;
+                continue;
+            }
+            final Set<String> params = new HashSet<>();
+            for (VariableElement p : method.getParameters()) {
+                final String name = getPathParamName(p);
+                if (name != null) {
+                    params.add(name);
+                } else if (getAnnotation(p, BEAN_PARAM) != null) {
+                    collectBeanPathParams(p, params);
+                }
+            }
+            if (variables.size() != params.size()) {
+                error(method, "Parameters and variables don't match on %s::%s", type.getQualifiedName(),
+                        method.getSimpleName());
+                valid = false;
+            } else if (!variables.equals(params)) {
+                error(method, "Parameter names don't match variable names on %s::%s", type.getQualifiedName(),
+                        method.getSimpleName());
+                valid = false;
+            }
+        }
+        return valid;
+    }
+
+    private boolean verifyBatched(final TypeElement type, final ExecutableElement method) {
+        final String batchMethod = getValue(method, BATCHED);
+        if (batchMethod == null) {
+            return true;
+        }
+        if (!isType(method.getReturnType(), COMPLETION_STAGE) || method.getParameters().size() != 1) {
+            error(method, "The batched method %s::%s must return a CompletionStage and have a single parameter",
+                    type.getQualifiedName(), method.getSimpleName());
+            return false;
+        }
+        // Mirrors the lookup of the runtime, the batch method is resolved on the interface declaring the method
+        final TypeMirror list = types.erasure(elements.getTypeElement("java.util.List").asType());
+        for (ExecutableElement candidate : resolveMethods((TypeElement) method.getEnclosingElement())) {
+            if (!candidate.getSimpleName().contentEquals(batchMethod) || candidate.getParameters().size() != 1
+                    || !types.isAssignable(list, types.erasure(candidate.getParameters().get(0).asType()))) {
+                continue;
+            }
+            TypeMirror returnType = candidate.getReturnType();
+            if (isType(returnType, COMPLETION_STAGE)) {
+                final List<? extends TypeMirror> arguments = ((DeclaredType) returnType).getTypeArguments();
+                if (arguments.isEmpty()) {
+                    continue;
+                }
+                returnType = arguments.get(0);
+            }
+            if (isSubtype(returnType, "java.util.List") || isSubtype(returnType, "java.util.Map")) {
+                return true;
+            }
+        }
+        error(method, "No batch method %s with a List parameter returning a List or a Map found for %s::%s", batchMethod,
+                type.getQualifiedName(), method.getSimpleName());
+        return false;
+    }
+
+    private boolean isType(final TypeMirror type, final String name) {
+        return type.getKind() == TypeKind.DECLARED
+                && ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals(name);
+    }
+
+    private boolean isSubtype(final TypeMirror type, final String name) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        final TypeMirror superType = types.erasure(elements.getTypeElement(name).asType());
+        return types.isSubtype(types.erasure(type), superType);
+    }
+
+    private void generateVerified(final TypeElement type) {
+        final PackageElement pkg = elements.getPackageOf(type);
+        final String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        final String binaryName = elements.getBinaryName(type).toString();
+        final String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+                + VERIFIED_SUFFIX;
+        final String className = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        try (Writer writer = filer.createSourceFile(className, type).openWriter()) {
+            if (!packageName.isEmpty()) {
+                writer.write("package " + packageName + ";\n\n");
+            }
+            writer.write("/**\n");
+            writer.write(" * Indicates {@link " + type.getQualifiedName() + "} was verified at compile time.\n");
+            writer.write(" */\n");
+            writer.write("@javax.annotation.processing.Generated(\"" + RestClientProcessor.class.getName() + "\")\n");
+            writer.write("final class " + simpleName + " {\n");
+            writer.write("    private " + simpleName + "() {\n");
+            writer.write("    }\n");
+            writer.write("}\n");
+        } catch (IOException e) {
+            error(type, "Failed to generate %s: %s", className, e.getMessage());
+        }
+    }
+
+    private List<ExecutableElement> resolveMethods(final TypeElement type) {
+        // Mirror Class.getMethods() for an interface, this excludes the methods from java.lang.Object as well as the
+        // close() method of AutoCloseable/Closeable
+        final List<ExecutableElement> methods = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+            final Element enclosing = method.getEnclosingElement();
+            if (enclosing.getKind() != ElementKind.INTERFACE || !method.getModifiers().contains(Modifier.PUBLIC)) {
+                continue;
+            }
+            if (IGNORED_TYPES.contains(((TypeElement) enclosing).getQualifiedName().toString())) {
+                continue;
+            }
+            // Static methods are not inherited from super interfaces
+            if (method.getModifiers().contains(Modifier.STATIC) && !enclosing.equals(type)) {
+                continue;
+            }
+            methods.add(method);
+        }
+        return methods;
+    }
+
+    private void collectBeanPathParams(final VariableElement parameter, final Set<String> params) {
+        if (parameter.asType().getKind() != TypeKind.DECLARED) {
+            return;
+        }
+        final Element beanType = ((DeclaredType) parameter.asType()).asElement();
+        for (VariableElement field : ElementFilter.fieldsIn(beanType.getEnclosedElements())) {
+            final String name = getPathParamName(field);
+            if (name != null) {
+                params.add(name);
+            }
+        }
+        for (ExecutableElement method : ElementFilter.methodsIn(beanType.getEnclosedElements())) {
+            final String name = getPathParamName(method);
+            if (name != null) {
+                params.add(name);
+            }
+        }
+    }
+
+    private String getPathParamName(final Element element) {
+        final String value = getValue(element, PATH_PARAM);
+        if (value != null) {
+            return value;
+        }
+        if (getAnnotation(element, RESTEASY_PATH_PARAM) == null) {
+            return null;
+        }
+        final String resteasyValue = getValue(element, RESTEASY_PATH_PARAM);
+        if (resteasyValue != null && !resteasyValue.isEmpty()) {
+            return resteasyValue;
+        }
+        // Use the name of the element, for methods only getters are allowed
+        final String name = element.getSimpleName().toString();
+        if (element.getKind() == ElementKind.METHOD) {
+            if (!name.startsWith("get")) {
+                return null;
+            }
+            return Character.toLowerCase(name.charAt(3)) + name.substring(4);
+        }
+        return name;
+    }
+
+    /**
+     * Parses the names of the variables of a URI template, e.g. {@code {id}} or {@code {id: [0-9]+}}.
+     *
+     * @param template the template to parse
+     *
+     * @return the names of the variables or {@code null} if the template is invalid
+     */
+    static Set<String> getPathParamNames(final String template) {
+        final Set<String> names = new HashSet<>();
+        int i = 0;
+        while (i < template.length()) {
+            final char c = template.charAt(i);
+            if (c == '}') {
+                return null;
+            }
+            if (c != '{') {
+                i++;
+                continue;
+            }
+            // Find the matching brace, regular expressions may contain braces
+            int depth = 1;
+            int end = i + 1;
+            while (end < template.length() && depth > 0) {
+                final char current = template.charAt(end);
+                if (current == '{') {
+                    depth++;
+                } else if (current == '}') {
+                    depth--;
+                }
+                end++;
+            }
+            if (depth != 0) {
+                return null;
+            }
+            final String variable = template.substring(i + 1, end - 1);
+            final int colon = variable.indexOf(':');
+            final String name = (colon < 0 ? variable : variable.substring(0, colon)).trim();
+            if (name.isEmpty()) {
+                return null;
+            }
+            names.add(name);
+            i = end;
+        }
+        return names;
+    }
+
+    private boolean isHttpMethod(final AnnotationMirror annotation) {
+        final Element annotationType = annotation.getAnnotationType().asElement();
+        return getAnnotation(annotationType, HTTP_METHOD) != null;
+    }
+
+    private static AnnotationMirror getAnnotation(final Element element, final String name) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            final TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(name)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    private String getValue(final Element element, final String annotationName) {
+        final AnnotationMirror annotation = getAnnotation(element, annotationName);
+        if (annotation == null) {
+            return null;
+        }
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : elements
+                .getElementValuesWithDefaults(annotation).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals("value")) {
+                return String.valueOf(entry.getValue().getValue());
+            }
+        }
+        return null;
+    }
+
+    private void error(final Element element, final String format, final Object... args) {
+        messager.printMessage(Diagnostic.Kind.ERROR, String.format(format, args), element);
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client.processor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class RestClientProcessorTest {
+
+    // The processor matches the annotation by name, the module does not depend on the rest-client-base
+    private static final String BATCHED_CLASS = "org.jboss.resteasy.microprofile.client.batch.Batched";
+    private static final String BATCHED_SOURCE = "package org.jboss.resteasy.microprofile.client.batch;\n"
+            + "@java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)\n"
+            + "public @interface Batched {\n"
+            + "    String value();\n"
+            + "}\n";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void validInterface() throws Exception {
+        final DiagnosticCollector<JavaFileObject> diagnostics = compile("test.ValidClient",
+                "package test;\n"
+                        + "import jakarta.ws.rs.*;\n"
+                        + "@org.eclipse.microprofile.rest.client.inject.RegisterRestClient\n"
+                        + "@Path(\"/items/{group}\")\n"
+                        + "public interface ValidClient extends AutoCloseable {\n"
+                        + "    @GET @Path(\"{id: [0-9]{1,4}}\")\n"
+                        + "    String get(@PathParam(\"group\") String group, @PathParam(\"id\") int id);\n"
+                        + "}\n");
+        Assertions.assertTrue(errors(diagnostics).isEmpty(), () -> "Unexpected errors: " + errors(diagnostics));
+        Assertions.assertTrue(Files.exists(dir.resolve("classes/test/ValidClient$$RestClientVerified.class")));
+    }
+
+    @Test
+    public void ambiguousHttpMethod() throws Exception {
+        final DiagnosticCollector<JavaFileObject> diagnostics = compile("test.AmbiguousClient",
+                "package test;\n"
+                        + "import jakarta.ws.rs.*;\n"
+                        + "@org.eclipse.microprofile.rest.client.inject.RegisterRestClient\n"
+                        + "public interface AmbiguousClient {\n"
+                        + "    @GET @POST\n"
+                        + "    String get();\n"
+                        + "}\n");
+        final List<String> errors = errors(diagnostics);
+        Assertions.assertEquals(1, errors.size(), () -> "Unexpected errors: " + errors);
+        Assertions.assertTrue(errors.get(0).startsWith("Ambiguous @HttpMethod"), errors.get(0));
+        Assertions.assertFalse(Files.exists(dir.resolve("classes/test/AmbiguousClient$$RestClientVerified.class")));
+    }
+
+    @Test
+    public void mismatchedPathParam() throws Exception {
+        final DiagnosticCollector<JavaFileObject> diagnostics = compile("test.MismatchClient",
+                "package test;\n"
+                        + "import jakarta.ws.rs.*;\n"
+                        + "@org.eclipse.microprofile.rest.client.inject.RegisterRestClient\n"
+                        + "public interface MismatchClient {\n"
+                        + "    @GET @Path(\"{id}\")\n"
+                        + "    String get(@PathParam(\"name\") String name);\n"
+                        + "    @GET @Path(\"{id}\")\n"
+                        + "    String missing();\n"
+                        + "}\n");
+        final List<String> errors = errors(diagnostics);
+        Assertions.assertEquals(2, errors.size(), () -> "Unexpected errors: " + errors);
+        Assertions.assertTrue(errors.get(0).startsWith("Parameter names don't match"), errors.get(0));
+        Assertions.assertTrue(errors.get(1).startsWith("Parameters and variables don't match"), errors.get(1));
+    }
+
+    @Test
+    public void validBatched() throws Exception {
+        final DiagnosticCollector<JavaFileObject> diagnostics = compile(Map.of(BATCHED_CLASS, BATCHED_SOURCE,
+                "test.BatchedClient",
+                "package test;\n"
+                        + "import java.util.*;\n"
+                        + "import java.util.concurrent.CompletionStage;\n"
+                        + "import jakarta.ws.rs.*;\n"
+                        + "import org.jboss.resteasy.microprofile.client.batch.Batched;\n"
+                        + "@org.eclipse.microprofile.rest.client.inject.RegisterRestClient\n"
+                        + "public interface BatchedClient {\n"
+                        + "    @GET @Path(\"{id}\") @Batched(\"getAll\")\n"
+                        + "    CompletionStage<String> get(@PathParam(\"id\") String id);\n"
+                        + "    @POST\n"
+                        + "    CompletionStage<Map<String, String>> getAll(List<String> ids);\n"
+                        + "}\n"));
+        Assertions.assertTrue(errors(diagnostics).isEmpty(), () -> "Unexpected errors: " + errors(diagnostics));
+        Assertions.assertTrue(Files.exists(dir.resolve("classes/test/BatchedClient$$RestClientVerified.class")));
+    }
+
+    @Test
+    public void invalidBatched() throws Exception {
+        final DiagnosticCollector<JavaFileObject> diagnostics = compile(Map.of(BATCHED_CLASS, BATCHED_SOURCE,
+                "test.InvalidBatchedClient",
+                "package test;\n"
+                        + "import java.util.*;\n"
+                        + "import java.util.concurrent.CompletionStage;\n"
+                        + "import jakarta.ws.rs.*;\n"
+                        + "import org.jboss.resteasy.microprofile.client.batch.Batched;\n"
+                        + "@org.eclipse.microprofile.rest.client.inject.RegisterRestClient\n"
+                        + "public interface InvalidBatchedClient {\n"
+                        + "    @GET @Path(\"{id}\") @Batched(\"getAll\")\n"
+                        + "    String get(@PathParam(\"id\") String id);\n"
+                        + "    @GET @Path(\"{id}\") @Batched(\"missing\")\n"
+                        + "    CompletionStage<String> find(@PathParam(\"id\") String id);\n"
+                        + "    @POST\n"
+                        + "    List<String> getAll(List<String> ids);\n"
+                        + "}\n"));
+        final List<String> errors = errors(diagnostics);
+        Assertions.assertEquals(2, errors.size(), () -> "Unexpected errors: " + errors);
+        Assertions.assertTrue(errors.stream().anyMatch(e -> e.startsWith("The batched method")), errors::toString);
+        Assertions.assertTrue(errors.stream().anyMatch(e -> e.startsWith("No batch method missing")), errors::toString);
+        Assertions.assertFalse(Files.exists(dir.resolve("classes/test/InvalidBatchedClient$$RestClientVerified.class")));
+    }
+
+    @Test
+    public void templateNames() {
+        Assertions.assertEquals(Set.of("a", "b"), RestClientProcessor.getPathParamNames("/x/{a}/{ b : [a-z]{2} }"));
+        Assertions.assertEquals(Set.of(), RestClientProcessor.getPathParamNames("/x/y"));
+        Assertions.assertNull(RestClientProcessor.getPathParamNames("/x/{a"));
+        Assertions.assertNull(RestClientProcessor.getPathParamNames("/x/a}"));
+    }
+
+    private DiagnosticCollector<JavaFileObject> compile(final String className, final String source) throws IOException {
+        return compile(Map.of(className, source));
+    }
+
+    private DiagnosticCollector<JavaFileObject> compile(final Map<String, String> sources) throws IOException {
+        final List<Path> sourceFiles = new ArrayList<>();
+        for (Map.Entry<String, String> entry : sources.entrySet()) {
+            final Path sourceFile = dir.resolve("src").resolve(entry.getKey().replace('.', '/') + ".java");
+            Files.createDirectories(sourceFile.getParent());
+            Files.writeString(sourceFile, entry.getValue());
+            sourceFiles.add(sourceFile);
+        }
+        final Path classes = Files.createDirectories(dir.resolve("classes"));
+        final Path generated = Files.createDirectories(dir.resolve("generated"));
+
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+                    List.of("-classpath", System.getProperty("java.class.path"), "-d", classes.toString(), "-s",
+                            generated.toString()),
+                    null, fileManager.getJavaFileObjectsFromPaths(sourceFiles));
+            task.setProcessors(List.of(new RestClientProcessor()));
+            task.call();
+        }
+        return diagnostics;
+    }
+
+    private static List<String> errors(final DiagnosticCollector<JavaFileObject> diagnostics) {
+        return diagnostics.getDiagnostics().stream()
+                .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+                .map(d -> d.getMessage(null))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.inject.spi.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class InvocationContextImplTest {
+
+    @Test
+    public void stateSharedAcrossChain() throws Exception {
+        final List<InvocationContextImpl.InterceptorInvocation> chain = new ArrayList<>();
+        chain.add(interceptor(ctx -> {
+            ctx.getContextData().put("first", "1");
+            ctx.setParameters(new Object[] { "changed" });
+            final Object result = ctx.proceed();
+            // The data added by the next interceptor is visible
+            Assertions.assertEquals("2", ctx.getContextData().get("second"));
+            return result;
+        }));
+        chain.add(interceptor(ctx -> {
+            Assertions.assertEquals("1", ctx.getContextData().get("first"));
+            Assertions.assertEquals("changed", ctx.getParameters()[0]);
+            ctx.getContextData().put("second", "2");
+            return ctx.proceed();
+        }));
+        final InvocationContextImpl context = new InvocationContextImpl(new Target(),
+                Target.class.getMethod("echo", String.class), new Object[] { "original" }, chain);
+        Assertions.assertEquals("changed", context.proceed());
+        Assertions.assertEquals("1", context.getContextData().get("first"));
+        Assertions.assertEquals("2", context.getContextData().get("second"));
+        Assertions.assertEquals("changed", context.getParameters()[0]);
+    }
+
+    @Test
+    public void proceedMoreThanOnce() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final List<InvocationContextImpl.InterceptorInvocation> chain = new ArrayList<>();
+        chain.add(interceptor(ctx -> {
+            // Like a retry, each call runs the rest of the chain
+            ctx.proceed();
+            return ctx.proceed();
+        }));
+        chain.add(interceptor(ctx -> {
+            calls.incrementAndGet();
+            return ctx.proceed();
+        }));
+        final InvocationContextImpl context = new InvocationContextImpl(new Target(),
+                Target.class.getMethod("echo", String.class), new Object[] { "value" }, chain);
+        Assertions.assertEquals("value", context.proceed());
+        Assertions.assertEquals(2, calls.get());
+    }
+
+    private static InvocationContextImpl.InterceptorInvocation interceptor(final AroundInvoke aroundInvoke) {
+        final Interceptor<?> interceptor = (Interceptor<?>) Proxy.newProxyInstance(
+                InvocationContextImplTest.class.getClassLoader(), new Class<?>[] { Interceptor.class },
+                (proxy, method, args) -> {
+                    if ("intercept".equals(method.getName())) {
+                        return aroundInvoke.intercept((InvocationContext) args[2]);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        return new InvocationContextImpl.InterceptorInvocation(interceptor, new Object());
+    }
+
+    @FunctionalInterface
+    private interface AroundInvoke {
+        Object intercept(InvocationContext ctx) throws Exception;
+    }
+
+    public static class Target {
+        public String echo(final String value) {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client;
+
+import java.net.URI;
+import java.util.Set;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Response;
+
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.eclipse.microprofile.rest.client.ext.ResponseExceptionMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link RestClientBuilderImpl#METHOD_HANDLE_INVOCATION} option. The responses are returned by a filter, so
+ * no server is required.
+ */
+public class MethodHandleInvocationTest {
+
+    @Test
+    public void publicInterface() throws Exception {
+        Assertions.assertTrue(InvocationPlan.of(GreetingClient.class.getMethod("greet"), Set.of(), true)
+                .usesMethodHandle());
+        Assertions.assertEquals("Hello", createBuilder(200).build(GreetingClient.class).greet());
+    }
+
+    @Test
+    public void checkedExceptionNotWrapped() {
+        final GreetingClient client = createBuilder(404).build(GreetingClient.class);
+        final GreetingException e = Assertions.assertThrows(GreetingException.class, client::greet);
+        Assertions.assertEquals(404, e.status);
+    }
+
+    @Test
+    public void nonPublicInterfaceFallsBackToReflection() throws Exception {
+        Assertions.assertFalse(InvocationPlan.of(HiddenClient.class.getMethod("greet"), Set.of(), true)
+                .usesMethodHandle());
+        Assertions.assertEquals("Hello", createBuilder(200).build(HiddenClient.class).greet());
+        final HiddenClient client = createBuilder(404).build(HiddenClient.class);
+        final GreetingException e = Assertions.assertThrows(GreetingException.class, client::greet);
+        Assertions.assertEquals(404, e.status);
+    }
+
+    private static RestClientBuilder createBuilder(final int status) {
+        return RestClientBuilder.newBuilder()
+                .baseUri(URI.create("http://localhost"))
+                .property(RestClientBuilderImpl.METHOD_HANDLE_INVOCATION, true)
+                .register((ClientRequestFilter) requestContext -> requestContext.abortWith(
+                        Response.status(status).entity("Hello").type("text/plain").build()))
+                .register(new GreetingExceptionMapper());
+    }
+
+    public static class GreetingException extends Exception {
+        private static final long serialVersionUID = 1L;
+        private final int status;
+
+        GreetingException(final int status) {
+            super("Status " + status);
+            this.status = status;
+        }
+    }
+
+    public static class GreetingExceptionMapper implements ResponseExceptionMapper<GreetingException> {
+
+        @Override
+        public GreetingException toThrowable(final Response response) {
+            return new GreetingException(response.getStatus());
+        }
+
+        @Override
+        public boolean handles(final int status, final MultivaluedMap<String, Object> headers) {
+            return status == 404;
+        }
+    }
+
+    @Path("/greet")
+    public interface GreetingClient {
+        @GET
+        String greet() throws GreetingException;
+    }
+
+    @Path("/greet")
+    interface HiddenClient {
+        @GET
+        String greet() throws GreetingException;
+    }
+}
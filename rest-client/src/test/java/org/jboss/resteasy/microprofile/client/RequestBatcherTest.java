@@ -0,0 +1,140 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+
+import org.eclipse.microprofile.rest.client.RestClientDefinitionException;
+import org.jboss.resteasy.microprofile.client.batch.Batched;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class RequestBatcherTest {
+
+    @Test
+    public void sendFullBatch() throws Exception {
+        final List<List<Object>> batches = new CopyOnWriteArrayList<>();
+        final RequestBatcher batcher = new RequestBatcher(batched("getItem"), List.of(), Runnable::run, items -> {
+            batches.add(items);
+            return CompletableFuture.completedFuture(List.of("A", "B"));
+        });
+        final CompletionStage<Object> a = batcher.add("a");
+        Assertions.assertFalse(a.toCompletableFuture().isDone());
+        final CompletionStage<Object> b = batcher.add("b");
+        Assertions.assertEquals("A", a.toCompletableFuture().get(10, TimeUnit.SECONDS));
+        Assertions.assertEquals("B", b.toCompletableFuture().get(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(List.of(List.of("a", "b")), batches);
+    }
+
+    @Test
+    public void sendAfterDelay() throws Exception {
+        final List<List<Object>> batches = new CopyOnWriteArrayList<>();
+        final RequestBatcher batcher = new RequestBatcher(batched("getItemMap"), List.of(), Runnable::run, items -> {
+            batches.add(items);
+            return Map.of("a", "A");
+        });
+        final CompletionStage<Object> a1 = batcher.add("a");
+        final CompletionStage<Object> a2 = batcher.add("a");
+        final CompletionStage<Object> b = batcher.add("b");
+        Assertions.assertEquals("A", a1.toCompletableFuture().get(10, TimeUnit.SECONDS));
+        Assertions.assertEquals("A", a2.toCompletableFuture().get(10, TimeUnit.SECONDS));
+        Assertions.assertNull(b.toCompletableFuture().get(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(List.of(List.of("a", "b")), batches);
+    }
+
+    @Test
+    public void rejectedBatch() throws Exception {
+        final Executor rejecting = task -> {
+            throw new RejectedExecutionException("Queue full");
+        };
+        // Full batch, all the callers of the batch fail, not only the one which filled it
+        final RequestBatcher full = new RequestBatcher(batched("getItem"), List.of(), rejecting,
+                items -> Assertions.fail("The batch must not be sent"));
+        final CompletionStage<Object> a = full.add("a");
+        final CompletionStage<Object> b = full.add("b");
+        assertRejected(a);
+        assertRejected(b);
+
+        // Batch sent after the delay
+        final RequestBatcher delayed = new RequestBatcher(batched("getItemMap"), List.of(), rejecting,
+                items -> Assertions.fail("The batch must not be sent"));
+        final CompletionStage<Object> c = delayed.add("c");
+        final CompletionStage<Object> d = delayed.add("d");
+        assertRejected(c);
+        assertRejected(d);
+    }
+
+    @Test
+    public void invalidBatchMethod() throws Exception {
+        Assertions.assertThrows(RestClientDefinitionException.class,
+                () -> InvocationPlan.resolveBatchMethod(ItemClient.class.getMethod("invalid", String.class)));
+        Assertions.assertEquals(ItemClient.class.getMethod("getItems", List.class),
+                InvocationPlan.resolveBatchMethod(ItemClient.class.getMethod("getItem", String.class)));
+    }
+
+    private static void assertRejected(final CompletionStage<Object> result) {
+        final ExecutionException e = Assertions.assertThrows(ExecutionException.class,
+                () -> result.toCompletableFuture().get(10, TimeUnit.SECONDS));
+        Assertions.assertTrue(e.getCause() instanceof RejectedExecutionException, () -> "Unexpected cause " + e.getCause());
+    }
+
+    private static Batched batched(final String name) throws NoSuchMethodException {
+        return ItemClient.class.getMethod(name, String.class).getAnnotation(Batched.class);
+    }
+
+    @Path("/")
+    public interface ItemClient {
+        @GET
+        @Path("/item/{id}")
+        @Batched(value = "getItems", maxSize = 2, maxDelay = 60_000)
+        CompletionStage<String> getItem(@PathParam("id") String id);
+
+        @GET
+        @Path("/item/{id}")
+        @Batched(value = "getItemsByKey", maxDelay = 50)
+        CompletionStage<String> getItemMap(@PathParam("id") String id);
+
+        @GET
+        @Path("/item/{id}")
+        @Batched("missing")
+        CompletionStage<String> invalid(@PathParam("id") String id);
+
+        @POST
+        @Path("/items:batch")
+        CompletionStage<List<String>> getItems(List<String> ids);
+
+        @POST
+        @Path("/items:batch")
+        Map<String, String> getItemsByKey(List<String> ids);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.core.Response;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class RequestCoalescerTest {
+
+    @Test
+    public void coalesceInFlight() throws Throwable {
+        final RequestCoalescer coalescer = new RequestCoalescer(List.of());
+        final InvocationPlan plan = plan("get");
+        final AtomicInteger invocations = new AtomicInteger();
+        final CompletableFuture<Object> response = new CompletableFuture<>();
+        final RequestCoalescer.Invoker invoker = () -> {
+            invocations.incrementAndGet();
+            return response;
+        };
+
+        final CompletionStage<?> first = (CompletionStage<?>) coalescer.invoke(plan, new Object[] { "1" }, invoker);
+        final CompletionStage<?> second = (CompletionStage<?>) coalescer.invoke(plan, new Object[] { "1" }, invoker);
+        final CompletionStage<?> other = (CompletionStage<?>) coalescer.invoke(plan, new Object[] { "2" }, invoker);
+        Assertions.assertEquals(2, invocations.get());
+
+        response.complete("value");
+        Assertions.assertEquals("value", first.toCompletableFuture().join());
+        Assertions.assertEquals("value", second.toCompletableFuture().join());
+        Assertions.assertEquals("value", other.toCompletableFuture().join());
+
+        // The completed request is no longer shared
+        coalescer.invoke(plan, new Object[] { "1" }, invoker);
+        Assertions.assertEquals(3, invocations.get());
+    }
+
+    @Test
+    public void cancelDoesNotCancelRequest() throws Throwable {
+        final RequestCoalescer coalescer = new RequestCoalescer(List.of());
+        final InvocationPlan plan = plan("get");
+        final CompletableFuture<Object> response = new CompletableFuture<>();
+        final CompletionStage<?> first = (CompletionStage<?>) coalescer.invoke(plan, new Object[] { "1" }, () -> response);
+        final CompletionStage<?> second = (CompletionStage<?>) coalescer.invoke(plan, new Object[] { "1" }, () -> response);
+
+        first.toCompletableFuture().cancel(true);
+        Assertions.assertFalse(response.isDone());
+        response.complete("value");
+        Assertions.assertEquals("value", second.toCompletableFuture().join());
+    }
+
+    @Test
+    public void lastCancelCancelsRequest() throws Throwable {
+        final RequestCoalescer coalescer = new RequestCoalescer(List.of());
+        final InvocationPlan plan = plan("get");
+        final AtomicInteger invocations = new AtomicInteger();
+        final CompletableFuture<Object> response = new CompletableFuture<>();
+        final RequestCoalescer.Invoker invoker = () -> {
+            invocations.incrementAndGet();
+            return response;
+        };
+        final CompletionStage<?> first = (CompletionStage<?>) coalescer.invoke(plan, new Object[] { "1" }, invoker);
+        final CompletionStage<?> second = (CompletionStage<?>) coalescer.invoke(plan, new Object[] { "1" }, invoker);
+
+        first.toCompletableFuture().cancel(true);
+        Assertions.assertFalse(response.isDone());
+        second.toCompletableFuture().cancel(true);
+        Assertions.assertTrue(response.isCancelled());
+
+        // The cancelled request is no longer shared
+        final CompletableFuture<Object> next = new CompletableFuture<>();
+        final CompletionStage<?> third = (CompletionStage<?>) coalescer.invoke(plan, new Object[] { "1" }, () -> {
+            invocations.incrementAndGet();
+            return next;
+        });
+        Assertions.assertEquals(2, invocations.get());
+        next.complete("value");
+        Assertions.assertEquals("value", third.toCompletableFuture().join());
+    }
+
+    @Test
+    public void coalescibleMethods() throws Exception {
+        Assertions.assertTrue(plan("get").isCoalescible());
+        Assertions.assertFalse(plan("response").isCoalescible());
+        Assertions.assertFalse(plan("asyncResponse").isCoalescible());
+    }
+
+    private static InvocationPlan plan(final String name) throws NoSuchMethodException {
+        for (java.lang.reflect.Method method : Resource.class.getMethods()) {
+            if (method.getName().equals(name)) {
+                return InvocationPlan.of(method, Set.of(), false);
+            }
+        }
+        throw new NoSuchMethodException(name);
+    }
+
+    @Path("/resource")
+    public interface Resource {
+        @GET
+        @Path("{id}")
+        CompletionStage<String> get(@PathParam("id") String id);
+
+        @GET
+        Response response();
+
+        @GET
+        CompletionStage<Response> asyncResponse();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client;
+
+import java.net.URI;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.core.Response;
+
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.eclipse.microprofile.rest.client.RestClientDefinitionException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the state {@link RestClientBuilderImpl} keeps across builds.
+ */
+public class RestClientBuilderCacheTest {
+
+    @Test
+    public void failedVerificationNotCached() {
+        // The verification must fail for each build, not only for the first one
+        for (int i = 0; i < 2; i++) {
+            Assertions.assertThrows(RestClientDefinitionException.class, () -> RestClientBuilder.newBuilder()
+                    .baseUri(URI.create("http://localhost"))
+                    .build(InvalidClient.class));
+        }
+    }
+
+    @Test
+    public void verifiedInterfaceBuiltAgain() {
+        for (int i = 0; i < 2; i++) {
+            final ValidClient client = RestClientBuilder.newBuilder()
+                    .baseUri(URI.create("http://localhost"))
+                    .register((ClientRequestFilter) requestContext -> requestContext
+                            .abortWith(Response.ok("hello").build()))
+                    .build(ValidClient.class);
+            Assertions.assertEquals("hello", client.greet());
+        }
+    }
+
+    @Test
+    public void nonProxyHostPatterns() {
+        final String previous = System.getProperty("http.nonProxyHosts");
+        try {
+            System.setProperty("http.nonProxyHosts", "*.example.com|localhost");
+            final List<Pattern> patterns = RestClientBuilderImpl.getNonProxyHostPatterns();
+            Assertions.assertEquals(2, patterns.size());
+            Assertions.assertTrue(patterns.get(0).matcher("api.example.com").matches());
+            Assertions.assertFalse(patterns.get(0).matcher("api.example.org").matches());
+            // The patterns are reused while the property is unchanged
+            Assertions.assertSame(patterns, RestClientBuilderImpl.getNonProxyHostPatterns());
+
+            System.setProperty("http.nonProxyHosts", "*.example.org");
+            final List<Pattern> changed = RestClientBuilderImpl.getNonProxyHostPatterns();
+            Assertions.assertNotSame(patterns, changed);
+            Assertions.assertEquals(1, changed.size());
+            Assertions.assertTrue(changed.get(0).matcher("api.example.org").matches());
+        } finally {
+            if (previous == null) {
+                System.clearProperty("http.nonProxyHosts");
+            } else {
+                System.setProperty("http.nonProxyHosts", previous);
+            }
+        }
+    }
+
+    @Test
+    public void listenersOfSameClassLoaderReused() {
+        Assertions.assertSame(RestClientListeners.get(), RestClientListeners.get());
+    }
+
+    @Path("/greet")
+    public interface ValidClient {
+        @GET
+        String greet();
+    }
+
+    @Path("/greet")
+    public interface InvalidClient {
+        // No parameter for the {id} template
+        @GET
+        @Path("/{id}")
+        String greet();
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.sun.net.httpserver.HttpServer;
+
+public class SharedClientExecutorsTest {
+
+    @Test
+    public void executorSharedByClients() throws Exception {
+        final SimpleClient first = RestClientBuilder.newBuilder().baseUri(URI.create("http://localhost"))
+                .build(SimpleClient.class);
+        final SimpleClient second = RestClientBuilder.newBuilder().baseUri(URI.create("http://localhost"))
+                .build(SimpleClient.class);
+        final ExecutorService executor = executor(first);
+        Assertions.assertSame(executor, executor(second));
+
+        // Closing a client must not shut down the shared executor
+        first.close();
+        Assertions.assertFalse(executor.isShutdown());
+        second.close();
+        Assertions.assertFalse(executor.isShutdown());
+    }
+
+    @Test
+    public void executorNotShared() throws Exception {
+        final SimpleClient shared = RestClientBuilder.newBuilder().baseUri(URI.create("http://localhost"))
+                .build(SimpleClient.class);
+        final SimpleClient notShared = RestClientBuilder.newBuilder().baseUri(URI.create("http://localhost"))
+                .property(RestClientBuilderImpl.EXECUTOR_SHARED, false)
+                .build(SimpleClient.class);
+        final ExecutorService executor = executor(notShared);
+        Assertions.assertNotSame(executor(shared), executor);
+        shared.close();
+        notShared.close();
+        Assertions.assertTrue(executor.isShutdown());
+    }
+
+    @Test
+    public void streamsDoNotBlockInvocations() throws Exception {
+        // One stream more than the default maximum number of threads of the shared executor
+        final int streams = Math.max(16, Runtime.getRuntime().availableProcessors() * 2) + 1;
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService serverExecutor = Executors.newCachedThreadPool();
+        final HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(serverExecutor);
+        server.createContext("/events", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", MediaType.SERVER_SENT_EVENTS);
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write("data: open\n\n".getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                // Keep the stream open
+                release.await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        server.createContext("/text", exchange -> {
+            final byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", MediaType.TEXT_PLAIN);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        final URI uri = URI.create("http://localhost:" + server.getAddress().getPort());
+        final List<StreamClient> clients = new ArrayList<>();
+        try {
+            // Each client has its own connection
+            final CountDownLatch opened = new CountDownLatch(streams);
+            for (int i = 0; i < streams; i++) {
+                final StreamClient client = RestClientBuilder.newBuilder().baseUri(uri).build(StreamClient.class);
+                clients.add(client);
+                client.events().subscribe(new Subscriber<String>() {
+                    @Override
+                    public void onSubscribe(final Subscription subscription) {
+                        subscription.request(Long.MAX_VALUE);
+                    }
+
+                    @Override
+                    public void onNext(final String item) {
+                        opened.countDown();
+                    }
+
+                    @Override
+                    public void onError(final Throwable throwable) {
+                    }
+
+                    @Override
+                    public void onComplete() {
+                    }
+                });
+            }
+            Assertions.assertTrue(opened.await(10, TimeUnit.SECONDS), "The streams were not opened");
+
+            final StreamClient client = RestClientBuilder.newBuilder().baseUri(uri).build(StreamClient.class);
+            clients.add(client);
+            Assertions.assertEquals("ok", client.text().toCompletableFuture().get(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            for (StreamClient client : clients) {
+                client.close();
+            }
+            server.stop(0);
+            serverExecutor.shutdownNow();
+        }
+    }
+
+    private static ExecutorService executor(final Object client) {
+        return ((RestClientProxy) client).getClient().asyncInvocationExecutor();
+    }
+
+    @Path("/")
+    public interface SimpleClient extends AutoCloseable {
+
+        @GET
+        String get();
+    }
+
+    @Path("/")
+    public interface StreamClient extends AutoCloseable {
+
+        @GET
+        @Path("events")
+        @Produces(MediaType.SERVER_SENT_EVENTS)
+        Publisher<String> events();
+
+        @GET
+        @Path("text")
+        CompletionStage<String> text();
+    }
+}
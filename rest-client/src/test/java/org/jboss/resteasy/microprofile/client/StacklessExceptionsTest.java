@@ -0,0 +1,83 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client;
+
+import java.net.URI;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.ServiceUnavailableException;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.core.Response;
+
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.jboss.resteasy.client.exception.WebApplicationExceptionWrapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the exceptions of the {@link DefaultResponseExceptionMapper} with the
+ * {@link RestClientBuilderImpl#STACKLESS_EXCEPTIONS} option.
+ */
+public class StacklessExceptionsTest {
+
+    @Test
+    public void mapper() {
+        final Throwable notFound = new DefaultResponseExceptionMapper(true).toThrowable(Response.status(404).build());
+        Assertions.assertTrue(notFound instanceof NotFoundException, () -> "Unexpected exception " + notFound);
+        Assertions.assertEquals(0, unwrap(notFound).getStackTrace().length);
+
+        final Throwable unavailable = new DefaultResponseExceptionMapper(true).toThrowable(Response.status(503).build());
+        Assertions.assertTrue(unavailable instanceof ServiceUnavailableException,
+                () -> "Unexpected exception " + unavailable);
+        Assertions.assertEquals(0, unwrap(unavailable).getStackTrace().length);
+
+        // Without the option the stack trace is filled in
+        final Throwable withStack = new DefaultResponseExceptionMapper(false).toThrowable(Response.status(404).build());
+        Assertions.assertEquals(NotFoundException.class, unwrap(withStack).getClass());
+        Assertions.assertNotEquals(0, unwrap(withStack).getStackTrace().length);
+    }
+
+    @Test
+    public void client() {
+        final GreetingClient client = RestClientBuilder.newBuilder()
+                .baseUri(URI.create("http://localhost"))
+                .property(RestClientBuilderImpl.STACKLESS_EXCEPTIONS, true)
+                .register((ClientRequestFilter) requestContext -> requestContext
+                        .abortWith(Response.status(404).build()))
+                .build(GreetingClient.class);
+        final NotFoundException e = Assertions.assertThrows(NotFoundException.class, client::greet);
+        Assertions.assertEquals(404, e.getResponse().getStatus());
+        Assertions.assertEquals(0, unwrap(e).getStackTrace().length);
+    }
+
+    private static WebApplicationException unwrap(final Throwable e) {
+        // The exception is wrapped unless RESTEasy is configured to unwrap the exceptions
+        return WebApplicationExceptionWrapper.unwrap((WebApplicationException) e);
+    }
+
+    @Path("/greet")
+    public interface GreetingClient {
+        @GET
+        String greet();
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client.async;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.client.ClientResponseFilter;
+import jakarta.ws.rs.core.Response;
+
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the cancellation of the stages returned by {@link AsyncInterceptorRxInvoker}.
+ */
+public class AsyncCancellationTest {
+
+    @Test
+    public void cancelInterruptsInvocation() throws Exception {
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final AsyncClient client = RestClientBuilder.newBuilder()
+                .baseUri(URI.create("http://localhost"))
+                .register((ClientRequestFilter) requestContext -> {
+                    entered.countDown();
+                    try {
+                        TimeUnit.SECONDS.sleep(10);
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                    }
+                    requestContext.abortWith(Response.ok("late").build());
+                })
+                .build(AsyncClient.class);
+        final CompletableFuture<String> result = client.get().toCompletableFuture();
+        Assertions.assertTrue(entered.await(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(result.cancel(true));
+        // The thread running the invocation is interrupted
+        Assertions.assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void cancelClosesConnection() throws Exception {
+        try (ServerSocket server = new ServerSocket(0, 0, InetAddress.getLoopbackAddress())) {
+            final AsyncClient client = RestClientBuilder.newBuilder()
+                    .baseUri(URI.create("http://localhost:" + server.getLocalPort()))
+                    .build(AsyncClient.class);
+            final CompletableFuture<String> result = client.get().toCompletableFuture();
+            try (Socket socket = server.accept()) {
+                socket.setSoTimeout(5000);
+                final BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(socket.getInputStream(), StandardCharsets.ISO_8859_1));
+                // Read the request, the response is never sent
+                String line;
+                do {
+                    line = reader.readLine();
+                } while (line != null && !line.isEmpty());
+                Assertions.assertTrue(result.cancel(true));
+                // The blocking read of the client is aborted, which closes the connection
+                Assertions.assertEquals(-1, reader.read());
+            }
+        }
+    }
+
+    @Test
+    public void lateResponseClosed() throws Exception {
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch closed = new CountDownLatch(1);
+        final AsyncClient client = RestClientBuilder.newBuilder()
+                .baseUri(URI.create("http://localhost"))
+                .register((ClientRequestFilter) requestContext -> {
+                    entered.countDown();
+                    // Like a blocking read, ignore the interrupt
+                    boolean interrupted = false;
+                    while (true) {
+                        try {
+                            release.await();
+                            break;
+                        } catch (InterruptedException e) {
+                            interrupted = true;
+                        }
+                    }
+                    if (interrupted) {
+                        Thread.currentThread().interrupt();
+                    }
+                    requestContext.abortWith(Response.ok().build());
+                })
+                .register((ClientResponseFilter) (requestContext, responseContext) -> {
+                    final InputStream entity = responseContext.hasEntity() ? responseContext.getEntityStream()
+                            : new ByteArrayInputStream(new byte[0]);
+                    responseContext.setEntityStream(new FilterInputStream(entity) {
+                        @Override
+                        public void close() throws IOException {
+                            closed.countDown();
+                            super.close();
+                        }
+                    });
+                })
+                .build(AsyncClient.class);
+        final CompletableFuture<Response> result = client.response().toCompletableFuture();
+        Assertions.assertTrue(entered.await(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(result.cancel(true));
+        release.countDown();
+        // The response received after the cancellation releases the connection
+        Assertions.assertTrue(closed.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void timeoutCancelsInvocation() throws Exception {
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final AsyncClient client = RestClientBuilder.newBuilder()
+                .baseUri(URI.create("http://localhost"))
+                .register((ClientRequestFilter) requestContext -> {
+                    try {
+                        TimeUnit.SECONDS.sleep(10);
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                    }
+                    requestContext.abortWith(Response.ok("late").build());
+                })
+                .build(AsyncClient.class);
+        final CompletableFuture<String> result = client.get().toCompletableFuture()
+                .orTimeout(100, TimeUnit.MILLISECONDS);
+        Assertions.assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void exceptionMapped() {
+        final AsyncClient client = RestClientBuilder.newBuilder()
+                .baseUri(URI.create("http://localhost"))
+                .register((ClientRequestFilter) requestContext -> requestContext
+                        .abortWith(Response.status(404).build()))
+                .build(AsyncClient.class);
+        final ExecutionException e = Assertions.assertThrows(ExecutionException.class,
+                () -> client.get().toCompletableFuture().get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(e.getCause() instanceof NotFoundException, () -> "Unexpected exception " + e.getCause());
+    }
+
+    @Path("/async")
+    public interface AsyncClient {
+        @GET
+        CompletionStage<String> get();
+
+        @GET
+        CompletionStage<Response> response();
+    }
+}
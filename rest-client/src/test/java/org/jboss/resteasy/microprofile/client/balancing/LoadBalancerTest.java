@@ -0,0 +1,96 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client.balancing;
+
+import java.net.URI;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.ws.rs.ProcessingException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class LoadBalancerTest {
+    private static final URI A = URI.create("http://a:8080/api");
+    private static final URI B = URI.create("http://b:8080/api");
+    private static final URI C = URI.create("http://c:8080/api");
+
+    @Test
+    public void leastOutstanding() {
+        final LoadBalancer loadBalancer = new LoadBalancer("test", () -> List.of(A, B, C),
+                LoadBalancer.Policy.LEAST_OUTSTANDING, 5, 30_000);
+        final Set<URI> selected = new HashSet<>();
+        for (int i = 0; i < 3; i++) {
+            selected.add(loadBalancer.select().getUri());
+        }
+        Assertions.assertEquals(Set.of(A, B, C), selected);
+        loadBalancer.getEndpoints().forEach(endpoint -> Assertions.assertEquals(1, endpoint.getInFlight()));
+    }
+
+    @Test
+    public void powerOfTwoChoices() {
+        final LoadBalancer loadBalancer = new LoadBalancer("test", () -> List.of(A, B),
+                LoadBalancer.Policy.POWER_OF_TWO_CHOICES, 5, 30_000);
+        for (int i = 0; i < 10; i++) {
+            final LoadBalancer.Lease lease = loadBalancer.select();
+            lease.release(200);
+            lease.release(200);
+        }
+        loadBalancer.getEndpoints().forEach(endpoint -> Assertions.assertEquals(0, endpoint.getInFlight()));
+    }
+
+    @Test
+    public void ejectFailingEndpoint() {
+        final AtomicReference<List<URI>> endpoints = new AtomicReference<>(List.of(A));
+        final LoadBalancer loadBalancer = new LoadBalancer("test", endpoints::get,
+                LoadBalancer.Policy.LEAST_OUTSTANDING, 3, 60_000);
+        loadBalancer.select().release(new ProcessingException("Connection refused"));
+        loadBalancer.select().release(503);
+        // A response which is not a gateway error resets the failures
+        loadBalancer.select().release(404);
+        loadBalancer.select().release(new ProcessingException("Connection refused"));
+        loadBalancer.select().release(502);
+        Assertions.assertFalse(loadBalancer.getEndpoints().get(0).isEjected());
+        loadBalancer.select().release(504);
+        Assertions.assertTrue(loadBalancer.getEndpoints().get(0).isEjected());
+
+        // The statistics are kept when the endpoints change
+        endpoints.set(List.of(A, B));
+        for (int i = 0; i < 10; i++) {
+            final LoadBalancer.Lease lease = loadBalancer.select();
+            Assertions.assertEquals(B, lease.getUri());
+            lease.release(200);
+        }
+
+        // An ejected endpoint is used if there is no other
+        endpoints.set(List.of(A));
+        Assertions.assertEquals(A, loadBalancer.select().getUri());
+    }
+
+    @Test
+    public void noEndpoint() {
+        final LoadBalancer loadBalancer = new LoadBalancer("test", List::of, LoadBalancer.Policy.POWER_OF_TWO_CHOICES,
+                5, 30_000);
+        Assertions.assertThrows(ProcessingException.class, loadBalancer::select);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client.deadline;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class DeadlineTest {
+
+    @Test
+    public void attach() {
+        Assertions.assertNull(Deadline.current());
+        final Deadline deadline = Deadline.after(Duration.ofSeconds(10));
+        try (Deadline.Scope scope = deadline.attach()) {
+            Assertions.assertSame(deadline, Deadline.current());
+            Assertions.assertFalse(deadline.isExpired());
+            Assertions.assertTrue(deadline.remaining(TimeUnit.SECONDS) > 8);
+        }
+        Assertions.assertNull(Deadline.current());
+    }
+
+    @Test
+    public void nestedScopeKeepsEarlierDeadline() {
+        final Deadline outer = Deadline.after(Duration.ofSeconds(1));
+        try (Deadline.Scope scope = outer.attach()) {
+            try (Deadline.Scope inner = Deadline.after(Duration.ofSeconds(10)).attach()) {
+                Assertions.assertSame(outer, Deadline.current());
+            }
+            final Deadline earlier = Deadline.after(Duration.ofMillis(500));
+            try (Deadline.Scope inner = earlier.attach()) {
+                Assertions.assertSame(earlier, Deadline.current());
+            }
+            Assertions.assertSame(outer, Deadline.current());
+        }
+        Assertions.assertNull(Deadline.current());
+    }
+
+    @Test
+    public void timeout() {
+        Assertions.assertEquals(5000, Deadline.timeout(5000));
+        Assertions.assertEquals(0, Deadline.timeout(0));
+        try (Deadline.Scope scope = Deadline.after(Duration.ofSeconds(2)).attach()) {
+            Assertions.assertEquals(1000, Deadline.timeout(1000));
+            final long timeout = Deadline.timeout(5000);
+            Assertions.assertTrue(timeout > 1000 && timeout <= 2000, () -> "Unexpected timeout " + timeout);
+            Assertions.assertTrue(Deadline.timeout(0) <= 2000);
+        }
+        try (Deadline.Scope scope = Deadline.after(Duration.ZERO).attach()) {
+            // A timeout of 0 means no timeout, so an expired deadline results in the minimum timeout
+            Assertions.assertEquals(1, Deadline.timeout(0));
+        }
+    }
+
+    @Test
+    public void check() {
+        Deadline.after(Duration.ofSeconds(1)).check();
+        final Deadline expired = Deadline.after(Duration.ZERO);
+        Assertions.assertTrue(expired.isExpired());
+        Assertions.assertEquals(0, expired.remaining(TimeUnit.NANOSECONDS));
+        Assertions.assertThrows(DeadlineExceededException.class, expired::check);
+    }
+
+    @Test
+    public void enforce() throws Exception {
+        final CompletableFuture<String> future = Deadline.after(Duration.ofMillis(50)).enforce(new CompletableFuture<>());
+        final ExecutionException e = Assertions.assertThrows(ExecutionException.class,
+                () -> future.get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(e.getCause() instanceof DeadlineExceededException, () -> "Unexpected cause " + e.getCause());
+
+        final CompletableFuture<String> completed = Deadline.after(Duration.ofMillis(50))
+                .enforce(new CompletableFuture<>());
+        completed.complete("done");
+        TimeUnit.MILLISECONDS.sleep(100);
+        Assertions.assertEquals("done", completed.get());
+    }
+
+    @Test
+    public void enforceCancelsTimer() throws Exception {
+        final int pending = Deadline.pendingTimers();
+        final CompletableFuture<String> future = Deadline.after(Duration.ofHours(1)).enforce(new CompletableFuture<>());
+        Assertions.assertEquals(pending + 1, Deadline.pendingTimers());
+        future.complete("done");
+        // The completed future is not held by the timer until the deadline
+        Assertions.assertEquals(pending, Deadline.pendingTimers());
+    }
+
+    @Test
+    public void grpcTimeout() {
+        Assertions.assertEquals("1500m", DeadlineHeaderFilter.toGrpcTimeout(1500));
+        Assertions.assertEquals("0m", DeadlineHeaderFilter.toGrpcTimeout(0));
+        Assertions.assertEquals("100000S", DeadlineHeaderFilter.toGrpcTimeout(100_000_000L));
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client.dns;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class DnsCacheTest {
+
+    @Test
+    public void cacheAddresses() throws Exception {
+        final StubResolver resolver = new StubResolver(address(1), address(2));
+        final DnsCache cache = new DnsCache(resolver, 60_000);
+        Assertions.assertEquals(List.of(address(1), address(2)), List.of(cache.resolve("service")));
+        Assertions.assertEquals(List.of(address(1), address(2)), List.of(cache.resolve("SERVICE")));
+        Assertions.assertEquals(1, resolver.lookups.get());
+    }
+
+    @Test
+    public void expireAddresses() throws Exception {
+        final StubResolver resolver = new StubResolver(address(1));
+        final DnsCache cache = new DnsCache(resolver, 0);
+        Assertions.assertEquals(address(1), cache.resolve("service")[0]);
+        resolver.addresses.set(new InetAddress[] { address(3) });
+        Assertions.assertEquals(address(3), cache.resolve("service")[0]);
+        Assertions.assertEquals(2, resolver.lookups.get());
+
+        // The previous addresses are used if the host cannot be resolved again
+        resolver.addresses.set(null);
+        Assertions.assertEquals(address(3), cache.resolve("service")[0]);
+        Assertions.assertThrows(UnknownHostException.class, () -> cache.resolve("other"));
+    }
+
+    @Test
+    public void spreadAddresses() throws Exception {
+        final DnsCache cache = new DnsCache(new StubResolver(address(1), address(2), address(3)), 60_000);
+        final InetAddress first = cache.next("service");
+        final InetAddress second = cache.next("service");
+        final InetAddress third = cache.next("service");
+        Assertions.assertEquals(3, List.of(first, second, third).stream().distinct().count());
+        Assertions.assertEquals(first, cache.next("service"));
+    }
+
+    @Test
+    public void slowLookupDoesNotBlockOtherHosts() throws Exception {
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final StubResolver stub = new StubResolver(address(1));
+        final HostResolver resolver = host -> {
+            if (host.equals("slow")) {
+                entered.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return new InetAddress[] { address(2) };
+            }
+            return stub.resolve(host);
+        };
+        final DnsCache cache = new DnsCache(resolver, 60_000);
+        final ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            final Future<InetAddress[]> slow = executor.submit(() -> cache.resolve("slow"));
+            Assertions.assertTrue(entered.await(5, TimeUnit.SECONDS));
+            final Future<InetAddress[]> waiting = executor.submit(() -> cache.resolve("slow"));
+            try {
+                // The other host is resolved while the lookup of the slow host is in flight
+                final Future<InetAddress[]> other = executor.submit(() -> cache.resolve("service"));
+                Assertions.assertEquals(address(1), other.get(5, TimeUnit.SECONDS)[0]);
+                Assertions.assertFalse(slow.isDone());
+            } finally {
+                release.countDown();
+            }
+            Assertions.assertEquals(address(2), slow.get(5, TimeUnit.SECONDS)[0]);
+            Assertions.assertEquals(address(2), waiting.get(5, TimeUnit.SECONDS)[0]);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void sharedCache() {
+        Assertions.assertSame(DnsCache.shared(1_000), DnsCache.shared(1_000));
+        Assertions.assertNotSame(DnsCache.shared(1_000), DnsCache.shared(2_000));
+    }
+
+    private static InetAddress address(final int last) throws UnknownHostException {
+        return InetAddress.getByAddress(new byte[] { 10, 0, 0, (byte) last });
+    }
+
+    private static class StubResolver implements HostResolver {
+        private final AtomicReference<InetAddress[]> addresses;
+        private final AtomicInteger lookups;
+
+        private StubResolver(final InetAddress... addresses) {
+            this.addresses = new AtomicReference<>(addresses);
+            this.lookups = new AtomicInteger();
+        }
+
+        @Override
+        public InetAddress[] resolve(final String host) throws UnknownHostException {
+            lookups.incrementAndGet();
+            final InetAddress[] result = addresses.get();
+            if (result == null || !host.equalsIgnoreCase("service")) {
+                throw new UnknownHostException(host);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client.engine;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+
+import jakarta.ws.rs.client.Invocation;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.resteasy.client.jaxrs.ClientHttpEngine;
+import org.jboss.resteasy.client.jaxrs.ResteasyClientBuilder;
+import org.jboss.resteasy.microprofile.client.impl.MpClientBuilderImpl;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SharedClientHttpEnginesTest {
+
+    @Test
+    public void sameAuthorityShared() {
+        final AtomicInteger created = new AtomicInteger();
+        final AtomicInteger closed = new AtomicInteger();
+        final ResteasyClientBuilder builder = new MpClientBuilderImpl();
+
+        final ClientHttpEngine first = SharedClientHttpEngines.acquire(URI.create("http://localhost:8080/a"), builder,
+                b -> new TestEngine(created, closed));
+        final ClientHttpEngine second = SharedClientHttpEngines.acquire(URI.create("http://localhost:8080/b"), builder,
+                b -> new TestEngine(created, closed));
+        Assertions.assertEquals(1, created.get());
+
+        first.close();
+        // Closing a handle twice must only release a single reference
+        first.close();
+        Assertions.assertEquals(0, closed.get());
+        second.close();
+        Assertions.assertEquals(1, closed.get());
+
+        // The engine was closed, a new one must be created
+        SharedClientHttpEngines.acquire(URI.create("http://localhost:8080/a"), builder,
+                b -> new TestEngine(created, closed)).close();
+        Assertions.assertEquals(2, created.get());
+    }
+
+    @Test
+    public void differentSettingsNotShared() {
+        final AtomicInteger created = new AtomicInteger();
+        final AtomicInteger closed = new AtomicInteger();
+
+        final ClientHttpEngine first = SharedClientHttpEngines.acquire(URI.create("http://localhost:8080"),
+                new MpClientBuilderImpl(), b -> new TestEngine(created, closed));
+        final ClientHttpEngine otherPort = SharedClientHttpEngines.acquire(URI.create("http://localhost:8081"),
+                new MpClientBuilderImpl(), b -> new TestEngine(created, closed));
+        final ClientHttpEngine otherTimeout = SharedClientHttpEngines.acquire(URI.create("http://localhost:8080"),
+                new MpClientBuilderImpl().readTimeout(5, TimeUnit.SECONDS), b -> new TestEngine(created, closed));
+        Assertions.assertEquals(3, created.get());
+
+        first.close();
+        otherPort.close();
+        otherTimeout.close();
+        Assertions.assertEquals(3, closed.get());
+    }
+
+    private static class TestEngine implements ClientHttpEngine {
+        private final AtomicInteger closed;
+
+        private TestEngine(final AtomicInteger created, final AtomicInteger closed) {
+            this.closed = closed;
+            created.incrementAndGet();
+        }
+
+        @Override
+        public SSLContext getSslContext() {
+            return null;
+        }
+
+        @Override
+        public HostnameVerifier getHostnameVerifier() {
+            return null;
+        }
+
+        @Override
+        public Response invoke(final Invocation request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close() {
+            closed.incrementAndGet();
+        }
+    }
+}
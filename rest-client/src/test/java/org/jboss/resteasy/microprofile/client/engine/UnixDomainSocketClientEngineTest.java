@@ -0,0 +1,150 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client.engine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ProtocolFamily;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.jboss.resteasy.microprofile.client.RestClientBuilderImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class UnixDomainSocketClientEngineTest {
+
+    private java.nio.file.Path dir;
+    private java.nio.file.Path socket;
+    private ServerSocketChannel server;
+
+    @BeforeEach
+    public void startServer() throws Exception {
+        Assumptions.assumeTrue(UnixDomainSocketClientEngine.isSupported(), "Unix domain sockets are not supported");
+        // Socket paths are limited to about 100 characters, do not use the JUnit temporary directory
+        dir = Files.createTempDirectory("uds");
+        socket = dir.resolve("server.sock");
+        // The project targets Java 11, the Unix domain socket API requires Java 16
+        final ProtocolFamily unix = StandardProtocolFamily.valueOf("UNIX");
+        server = (ServerSocketChannel) ServerSocketChannel.class.getMethod("open", ProtocolFamily.class)
+                .invoke(null, unix);
+        server.bind((SocketAddress) Class.forName("java.net.UnixDomainSocketAddress")
+                .getMethod("of", java.nio.file.Path.class).invoke(null, socket));
+    }
+
+    @AfterEach
+    public void stopServer() throws IOException {
+        if (server != null) {
+            server.close();
+        }
+        if (dir != null) {
+            Files.deleteIfExists(socket);
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    @Test
+    public void unixScheme() throws Exception {
+        final CompletableFuture<String> request = respond("HTTP/1.1 200 OK\r\n"
+                + "Content-Type: text/plain\r\n"
+                + "Content-Length: 11\r\n"
+                + "\r\n"
+                + "Hello world");
+        final GreetingClient client = RestClientBuilder.newBuilder()
+                .baseUri(URI.create("unix://" + socket.toAbsolutePath()))
+                .build(GreetingClient.class);
+        Assertions.assertEquals("Hello world", client.greet("world"));
+        final String head = request.get(10, TimeUnit.SECONDS);
+        Assertions.assertTrue(head.startsWith("GET /greet/world HTTP/1.1\r\n"), head);
+        Assertions.assertTrue(head.contains("\r\nHost: localhost\r\n"), head);
+    }
+
+    @Test
+    public void socketOption() throws Exception {
+        final CompletableFuture<String> request = respond("HTTP/1.1 200 OK\r\n"
+                + "Content-Type: text/plain\r\n"
+                + "Transfer-Encoding: chunked\r\n"
+                + "\r\n"
+                + "6\r\nHello \r\n"
+                + "5;ext=1\r\nworld\r\n"
+                + "0\r\n"
+                + "\r\n");
+        final GreetingClient client = RestClientBuilder.newBuilder()
+                .baseUri(URI.create("http://sidecar/api"))
+                .property(RestClientBuilderImpl.UNIX_SOCKET, socket.toString())
+                .build(GreetingClient.class);
+        Assertions.assertEquals("Hello world", client.greet("world"));
+        final String head = request.get(10, TimeUnit.SECONDS);
+        Assertions.assertTrue(head.startsWith("GET /api/greet/world HTTP/1.1\r\n"), head);
+        Assertions.assertTrue(head.contains("\r\nHost: sidecar\r\n"), head);
+    }
+
+    /**
+     * Accepts a single connection, reads the head of the request and writes the response.
+     *
+     * @return the head of the request
+     */
+    private CompletableFuture<String> respond(final String response) {
+        return CompletableFuture.supplyAsync(() -> {
+            try (SocketChannel channel = server.accept()) {
+                final InputStream in = Channels.newInputStream(channel);
+                final ByteArrayOutputStream head = new ByteArrayOutputStream();
+                while (!head.toString(StandardCharsets.ISO_8859_1).endsWith("\r\n\r\n")) {
+                    final int b = in.read();
+                    if (b < 0) {
+                        break;
+                    }
+                    head.write(b);
+                }
+                final OutputStream out = Channels.newOutputStream(channel);
+                out.write(response.getBytes(StandardCharsets.ISO_8859_1));
+                out.flush();
+                return head.toString(StandardCharsets.ISO_8859_1);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    @Path("/greet")
+    public interface GreetingClient {
+        @GET
+        @Path("{name}")
+        String greet(@PathParam("name") String name);
+    }
+}
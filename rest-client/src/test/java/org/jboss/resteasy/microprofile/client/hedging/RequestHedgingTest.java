@@ -0,0 +1,112 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client.hedging;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletionStage;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.PUT;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class RequestHedgingTest {
+
+    @Test
+    public void hedgedMethods() throws Exception {
+        final RequestHedging annotated = new RequestHedging(false, 95, 10);
+        Assertions.assertNull(annotated.stats(method("get"), HttpMethod.GET));
+        Assertions.assertNotNull(annotated.stats(method("put"), HttpMethod.PUT));
+        Assertions.assertNull(annotated.stats(method("post"), HttpMethod.POST));
+
+        final RequestHedging safeMethods = new RequestHedging(true, 95, 10);
+        Assertions.assertNotNull(safeMethods.stats(method("get"), HttpMethod.GET));
+        Assertions.assertNotNull(safeMethods.stats(method("put"), HttpMethod.PUT));
+        Assertions.assertNull(safeMethods.stats(method("post"), HttpMethod.POST));
+    }
+
+    @Test
+    public void streamsNotHedged() throws Exception {
+        final RequestHedging hedging = new RequestHedging(true, 95, 10);
+        Assertions.assertNotNull(hedging.stats(HedgedClient.class.getMethod("putString", String.class),
+                HttpMethod.PUT));
+        Assertions.assertNull(hedging.stats(HedgedClient.class.getMethod("putStream", InputStream.class),
+                HttpMethod.PUT));
+
+        Assertions.assertTrue(RequestHedging.isRepeatable(null));
+        Assertions.assertTrue(RequestHedging.isRepeatable("entity"));
+        Assertions.assertFalse(RequestHedging.isRepeatable(new ByteArrayInputStream(new byte[0])));
+        Assertions.assertFalse(RequestHedging.isRepeatable(new StringReader("entity")));
+    }
+
+    @Test
+    public void delayFromPercentile() throws Exception {
+        final RequestHedging.LatencyStats stats = new RequestHedging(true, 90, 10).stats(method("get"), HttpMethod.GET);
+        for (int i = 1; i < 20; i++) {
+            stats.record(i);
+        }
+        Assertions.assertEquals(-1, stats.getDelay());
+        stats.record(20);
+        Assertions.assertEquals(18, stats.getDelay());
+    }
+
+    @Test
+    public void budget() {
+        final RequestHedging hedging = new RequestHedging(true, 95, 10);
+        Assertions.assertFalse(hedging.tryHedge());
+        for (int i = 0; i < 20; i++) {
+            hedging.onRequest();
+        }
+        Assertions.assertTrue(hedging.tryHedge());
+        Assertions.assertTrue(hedging.tryHedge());
+        Assertions.assertFalse(hedging.tryHedge());
+        Assertions.assertEquals(2, hedging.getHedged());
+    }
+
+    private static Method method(final String name) throws NoSuchMethodException {
+        return HedgedClient.class.getMethod(name);
+    }
+
+    public interface HedgedClient {
+        @GET
+        CompletionStage<String> get();
+
+        @PUT
+        @Hedged
+        CompletionStage<String> put();
+
+        @POST
+        CompletionStage<String> post();
+
+        @PUT
+        @Hedged
+        CompletionStage<String> putString(String entity);
+
+        @PUT
+        @Hedged
+        CompletionStage<String> putStream(InputStream entity);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client.limit;
+
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import jakarta.ws.rs.ProcessingException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ConcurrencyLimiterTest {
+
+    @Test
+    public void rejectWhenLimitReached() {
+        final ConcurrencyLimiter limiter = new ConcurrencyLimiter("test", 2, 1, 10);
+        final ConcurrencyLimiter.Permit first = limiter.acquire();
+        limiter.acquire();
+        Assertions.assertThrows(RequestRejectedException.class, limiter::acquire);
+        Assertions.assertEquals(1, limiter.getRejected());
+        Assertions.assertEquals(2, limiter.getInFlight());
+
+        first.release(null);
+        Assertions.assertEquals(1, limiter.getInFlight());
+        Assertions.assertNotNull(limiter.acquire());
+    }
+
+    @Test
+    public void dropReducesLimit() {
+        final ConcurrencyLimiter limiter = new ConcurrencyLimiter("test", 10, 2, 10);
+        for (int i = 0; i < 20; i++) {
+            limiter.acquire().release(new ProcessingException(new SocketTimeoutException()));
+        }
+        Assertions.assertEquals(2, limiter.getLimit());
+        Assertions.assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    public void ignoredRequestsKeepLimit() {
+        final ConcurrencyLimiter limiter = new ConcurrencyLimiter("test", 10, 2, 10);
+        for (int i = 0; i < 20; i++) {
+            limiter.acquire().ignore();
+            limiter.acquire().release(new CancellationException());
+        }
+        Assertions.assertEquals(10, limiter.getLimit());
+        Assertions.assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    public void increaseWhileLatencyIsStable() {
+        final ConcurrencyLimiter limiter = new ConcurrencyLimiter("test", 4, 1, 100);
+        for (int i = 0; i < 50; i++) {
+            // Use the whole limit, otherwise it is not increased
+            final List<ConcurrencyLimiter.Permit> permits = new ArrayList<>();
+            for (int j = 0; j < limiter.getLimit(); j++) {
+                permits.add(limiter.acquire());
+            }
+            permits.forEach(permit -> permit.release(null));
+        }
+        Assertions.assertTrue(limiter.getLimit() > 4, () -> "Limit was not increased: " + limiter.getLimit());
+        Assertions.assertEquals(0, limiter.getRejected());
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client.limit;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class RateLimiterTest {
+
+    @Test
+    public void waitForToken() {
+        final RateLimiter limiter = new RateLimiter("test", 10, 2, 1_000);
+        Assertions.assertEquals(0, limiter.reserve());
+        Assertions.assertEquals(0, limiter.reserve());
+        final long wait = limiter.reserve();
+        Assertions.assertTrue(wait > TimeUnit.MILLISECONDS.toNanos(50) && wait <= TimeUnit.MILLISECONDS.toNanos(100),
+                () -> "Unexpected wait " + wait);
+        // The next request waits for the following token
+        Assertions.assertTrue(limiter.reserve() > wait);
+    }
+
+    @Test
+    public void rejectWhenWaitExceeded() {
+        final RateLimiter limiter = new RateLimiter("test", 1, 1, 100);
+        Assertions.assertEquals(0, limiter.reserve());
+        Assertions.assertThrows(RequestRejectedException.class, limiter::reserve);
+        Assertions.assertEquals(1, limiter.getRejected());
+    }
+
+    @Test
+    public void adaptToTooManyRequests() {
+        final RateLimiter limiter = new RateLimiter("test", 10, 10, 1_000);
+        limiter.onResponse(429, null);
+        Assertions.assertEquals(5.0, limiter.getRate(), 0.001);
+        limiter.onResponse(200, null);
+        Assertions.assertEquals(5.5, limiter.getRate(), 0.001);
+        for (int i = 0; i < 10; i++) {
+            limiter.onResponse(429, null);
+        }
+        Assertions.assertEquals(1.0, limiter.getRate(), 0.001);
+        for (int i = 0; i < 100; i++) {
+            limiter.onResponse(204, null);
+        }
+        Assertions.assertEquals(10.0, limiter.getRate(), 0.001);
+    }
+
+    @Test
+    public void pauseForRetryAfter() {
+        final RateLimiter limiter = new RateLimiter("test", 100, 10, 10_000);
+        limiter.onResponse(503, "2");
+        Assertions.assertEquals(100.0, limiter.getRate(), 0.001);
+        final long wait = limiter.reserve();
+        Assertions.assertTrue(wait > TimeUnit.MILLISECONDS.toNanos(1_900) && wait <= TimeUnit.SECONDS.toNanos(2),
+                () -> "Unexpected wait " + wait);
+
+        final RateLimiter rejecting = new RateLimiter("test", 100, 10, 1_000);
+        rejecting.onResponse(429, "2");
+        Assertions.assertThrows(RequestRejectedException.class, rejecting::reserve);
+    }
+
+    @Test
+    public void parseRetryAfter() {
+        Assertions.assertEquals(TimeUnit.SECONDS.toNanos(120), RateLimiter.parseRetryAfter(" 120 "));
+        final String date = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(60));
+        final long delay = RateLimiter.parseRetryAfter(date);
+        Assertions.assertTrue(delay > TimeUnit.SECONDS.toNanos(58) && delay <= TimeUnit.SECONDS.toNanos(60),
+                () -> "Unexpected delay " + delay);
+        Assertions.assertEquals(0, RateLimiter.parseRetryAfter("soon"));
+        Assertions.assertEquals(0, RateLimiter.parseRetryAfter(null));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client.limit;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class RequestSchedulerTest {
+
+    @Test
+    public void admitByPriority() {
+        final RequestScheduler scheduler = new RequestScheduler("test", new ConcurrencyLimiter("test", 1, 1, 1), 10, 0);
+        final ConcurrencyLimiter.Permit running = scheduler.schedule(RequestPriority.DEFAULT).join();
+        final CompletableFuture<ConcurrencyLimiter.Permit> batch = scheduler.schedule(RequestPriority.BATCH);
+        final CompletableFuture<ConcurrencyLimiter.Permit> first = scheduler.schedule(RequestPriority.INTERACTIVE);
+        final CompletableFuture<ConcurrencyLimiter.Permit> second = scheduler.schedule(RequestPriority.INTERACTIVE);
+        Assertions.assertEquals(3, scheduler.getQueued());
+
+        running.release(null);
+        Assertions.assertTrue(first.isDone());
+        Assertions.assertFalse(second.isDone());
+        Assertions.assertFalse(batch.isDone());
+
+        first.join().release(null);
+        Assertions.assertTrue(second.isDone());
+        Assertions.assertFalse(batch.isDone());
+
+        second.join().release(null);
+        Assertions.assertTrue(batch.isDone());
+        batch.join().release(null);
+        Assertions.assertEquals(0, scheduler.getQueued());
+        Assertions.assertEquals(0, scheduler.getLimiter().getInFlight());
+    }
+
+    @Test
+    public void shedLowestPriority() {
+        final RequestScheduler scheduler = new RequestScheduler("test", new ConcurrencyLimiter("test", 1, 1, 1), 1, 0);
+        scheduler.schedule(RequestPriority.DEFAULT).join();
+        final CompletableFuture<ConcurrencyLimiter.Permit> batch = scheduler.schedule(RequestPriority.BATCH);
+        final CompletableFuture<ConcurrencyLimiter.Permit> interactive = scheduler.schedule(RequestPriority.INTERACTIVE);
+        final ExecutionException e = Assertions.assertThrows(ExecutionException.class, batch::get);
+        Assertions.assertTrue(e.getCause() instanceof RequestRejectedException, () -> "Unexpected cause " + e.getCause());
+        Assertions.assertFalse(interactive.isDone());
+
+        // A request with a lower priority than all waiting requests is shed immediately
+        Assertions.assertTrue(scheduler.schedule(RequestPriority.BATCH).isCompletedExceptionally());
+        Assertions.assertEquals(2, scheduler.getShed());
+    }
+
+    @Test
+    public void cancelRemovesFromQueue() {
+        final RequestScheduler scheduler = new RequestScheduler("test", new ConcurrencyLimiter("test", 1, 1, 1), 10, 0);
+        final ConcurrencyLimiter.Permit running = scheduler.schedule(RequestPriority.DEFAULT).join();
+        final CompletableFuture<ConcurrencyLimiter.Permit> cancelled = scheduler.schedule(RequestPriority.DEFAULT);
+        final CompletableFuture<ConcurrencyLimiter.Permit> waiting = scheduler.schedule(RequestPriority.DEFAULT);
+        cancelled.cancel(false);
+        Assertions.assertEquals(1, scheduler.getQueued());
+
+        running.release(null);
+        Assertions.assertTrue(waiting.isDone());
+        Assertions.assertEquals(1, scheduler.getLimiter().getInFlight());
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client.limit;
+
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.core.Response;
+
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.jboss.resteasy.microprofile.client.RestClientBuilderImpl;
+import org.jboss.resteasy.microprofile.client.RestClientProxy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the cancellation of asynchronous invocations of a client using a {@link RequestScheduler}.
+ */
+public class SchedulerCancellationTest {
+
+    @Test
+    public void cancelQueuedAndAdmitted() throws Exception {
+        final Semaphore entered = new Semaphore(0);
+        final Semaphore interrupted = new Semaphore(0);
+        final AsyncClient client = RestClientBuilder.newBuilder()
+                .baseUri(URI.create("http://localhost"))
+                .property(RestClientBuilderImpl.SCHEDULER_ENABLED, true)
+                .property(RestClientBuilderImpl.SCHEDULER_MAX_CONCURRENT, 1)
+                .register((ClientRequestFilter) requestContext -> {
+                    entered.release();
+                    try {
+                        TimeUnit.SECONDS.sleep(10);
+                    } catch (InterruptedException e) {
+                        interrupted.release();
+                    }
+                    requestContext.abortWith(Response.ok("late").build());
+                })
+                .build(AsyncClient.class);
+        final RequestScheduler scheduler = ((RestClientProxy) client).getRequestScheduler().orElseThrow();
+
+        final CompletableFuture<String> running = client.get().toCompletableFuture();
+        Assertions.assertTrue(entered.tryAcquire(5, TimeUnit.SECONDS));
+        final CompletableFuture<String> cancelled = client.get().toCompletableFuture();
+        final CompletableFuture<String> admitted = client.get().toCompletableFuture();
+        Assertions.assertEquals(2, scheduler.getQueued());
+
+        // A queued request is removed from the queue and never sent
+        Assertions.assertTrue(cancelled.cancel(true));
+        Assertions.assertEquals(1, scheduler.getQueued());
+
+        // Cancelling the running request admits the next one
+        Assertions.assertTrue(running.cancel(true));
+        Assertions.assertTrue(interrupted.tryAcquire(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(entered.tryAcquire(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(0, scheduler.getQueued());
+
+        // Cancelling the request admitted from the queue cancels its invocation and releases its permit
+        Assertions.assertTrue(admitted.cancel(true));
+        Assertions.assertTrue(interrupted.tryAcquire(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(0, scheduler.getLimiter().getInFlight());
+        Assertions.assertEquals(0, entered.availablePermits());
+    }
+
+    @Path("/async")
+    public interface AsyncClient {
+        @GET
+        CompletionStage<String> get();
+    }
+}
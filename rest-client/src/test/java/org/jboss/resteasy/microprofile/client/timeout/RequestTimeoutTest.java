@@ -0,0 +1,166 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.client.timeout;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.QueryParam;
+
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.jboss.resteasy.microprofile.client.RestClientBuilderImpl;
+import org.jboss.resteasy.microprofile.client.deadline.Deadline;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+public class RequestTimeoutTest {
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/slow", exchange -> {
+            try {
+                TimeUnit.MILLISECONDS.sleep(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            final byte[] body = "done".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "text/plain");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    @AfterEach
+    public void stopServer() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void defaultEngine() {
+        assertTimeouts(createBuilder().build(SlowClient.class));
+    }
+
+    @Test
+    public void javaHttpClientEngine() {
+        assertTimeouts(createBuilder().property(RestClientBuilderImpl.ENGINE, "java-http-client")
+                .build(SlowClient.class));
+    }
+
+    @Test
+    public void overloadedMethods() {
+        // See META-INF/microprofile-config.properties, the signature selects a single overload
+        final OverloadedClient client = createBuilder().build(OverloadedClient.class);
+        Assertions.assertThrows(ProcessingException.class, () -> client.slow("value"));
+        Assertions.assertEquals("done", client.slow());
+    }
+
+    @Test
+    public void subResourceMethods() {
+        final LocatorClient client = createBuilder().build(LocatorClient.class);
+        Assertions.assertEquals("done", client.slow().slowWithLongTimeout());
+        Assertions.assertThrows(ProcessingException.class, () -> client.slow().slowWithClientTimeout());
+    }
+
+    private static void assertTimeouts(final SlowClient client) {
+        Assertions.assertThrows(ProcessingException.class, client::slow);
+        // The timeout of the method replaces the shorter timeout of the client
+        Assertions.assertEquals("done", client.slowWithLongTimeout());
+        Assertions.assertThrows(ProcessingException.class, client::slowWithClientTimeout);
+
+        // The deadline of the caller shortens the longer timeout of the method
+        final long start = System.nanoTime();
+        try (Deadline.Scope scope = Deadline.after(Duration.ofMillis(200)).attach()) {
+            Assertions.assertThrows(ProcessingException.class, client::slowWithLongTimeout);
+        }
+        final long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        Assertions.assertTrue(elapsed < 800, () -> "The invocation failed after " + elapsed + "ms");
+    }
+
+    private RestClientBuilder createBuilder() {
+        return RestClientBuilder.newBuilder()
+                .baseUri(URI.create("http://localhost:" + server.getAddress().getPort()))
+                .readTimeout(500, TimeUnit.MILLISECONDS);
+    }
+
+    @Path("/slow")
+    public interface SlowClient {
+        @GET
+        @RequestTimeout(readTimeout = 200)
+        String slow();
+
+        @GET
+        @RequestTimeout(readTimeout = 10_000)
+        String slowWithLongTimeout();
+
+        @GET
+        String slowWithClientTimeout();
+    }
+
+    @Path("/slow")
+    public interface OverloadedClient {
+        @GET
+        String slow();
+
+        @GET
+        String slow(@QueryParam("value") String value);
+    }
+
+    @Path("/")
+    public interface LocatorClient {
+        @Path("/slow")
+        SlowResource slow();
+    }
+
+    public interface SlowResource {
+        @GET
+        @RequestTimeout(readTimeout = 10_000)
+        String slowWithLongTimeout();
+
+        @GET
+        String slowWithClientTimeout();
+    }
+}
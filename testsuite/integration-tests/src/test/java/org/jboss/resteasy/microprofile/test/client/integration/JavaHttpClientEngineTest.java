@@ -0,0 +1,97 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.microprofile.test.client.integration;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Response;
+
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.arquillian.junit5.ArquillianExtension;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.resteasy.microprofile.client.RestClientBuilderImpl;
+import org.jboss.resteasy.microprofile.test.client.integration.resource.HeaderPropagator;
+import org.jboss.resteasy.microprofile.test.client.integration.resource.HelloClient;
+import org.jboss.resteasy.microprofile.test.client.integration.resource.HelloResource;
+import org.jboss.resteasy.microprofile.test.util.TestEnvironment;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * @tpSubChapter MicroProfile rest client
+ * @tpChapter Integration tests
+ * @tpTestCaseDetails Test a client using the java.net.http.HttpClient engine.
+ */
+@ExtendWith(ArquillianExtension.class)
+@RunAsClient
+public class JavaHttpClientEngineTest {
+
+    @ArquillianResource
+    URL url;
+
+    @Deployment
+    public static Archive<?> deploy() throws IOException {
+        // The resource injects a client, which requires the URL
+        return TestEnvironment.createWarWithConfigUrl(JavaHttpClientEngineTest.class, HelloClient.class, "test-app")
+                .addClasses(HelloClient.class, HelloResource.class, HeaderPropagator.class)
+                .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Test
+    public void get() throws Exception {
+        final HelloClient client = createClient();
+        Assertions.assertEquals("Hello", client.hello());
+        Assertions.assertEquals("1,2,3", client.joinQueryParam(List.of(1, 2, 3)));
+    }
+
+    @Test
+    public void getCompletionStage() throws Exception {
+        final HelloClient client = createClient();
+        Assertions.assertEquals("foo", client.some("foo").toCompletableFuture().get(30, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void getCompletionStageNotFound() throws Exception {
+        final HelloClient client = createClient();
+        final ExecutionException e = Assertions.assertThrows(ExecutionException.class,
+                () -> client.asyncClient404Target().toCompletableFuture().get(30, TimeUnit.SECONDS));
+        Assertions.assertTrue(e.getCause() instanceof WebApplicationException, () -> "Unexpected cause " + e.getCause());
+        Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(),
+                ((WebApplicationException) e.getCause()).getResponse().getStatus());
+    }
+
+    private HelloClient createClient() throws URISyntaxException {
+        return RestClientBuilder.newBuilder()
+                .baseUri(TestEnvironment.generateUri(url, "test-app"))
+                .property(RestClientBuilderImpl.ENGINE, "java-http-client")
+                .build(HelloClient.class);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2021 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.resteasy.microprofile.test.client.integration;
+
+import java.net.URL;
+
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.arquillian.junit5.ArquillianExtension;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.resteasy.microprofile.test.client.integration.resource.LoopbackClient;
+import org.jboss.resteasy.microprofile.test.client.integration.resource.LoopbackResource;
+import org.jboss.resteasy.microprofile.test.util.TestEnvironment;
+import org.jboss.shrinkwrap.api.Archive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * @tpSubChapter MicroProfile rest client
+ * @tpChapter Integration tests
+ * @tpTestCaseDetails Test a client using the loopback engine to invoke a resource of the same deployment.
+ */
+@ExtendWith(ArquillianExtension.class)
+@RunAsClient
+public class LoopbackClientEngineTest {
+
+    @ArquillianResource
+    URL url;
+
+    @Deployment
+    public static Archive<?> deploy() {
+        return TestEnvironment.createWar(LoopbackClientEngineTest.class)
+                .addClasses(LoopbackClient.class, LoopbackResource.class);
+    }
+
+    @Test
+    public void loopback() throws Exception {
+        try (Client client = ClientBuilder.newClient()) {
+            final String result = client.target(TestEnvironment.generateUri(url, "test-app", "loopback/invoke"))
+                    .request()
+                    .get(String.class);
+            Assertions.assertEquals("true /loopback/invoke", result);
+        }
+    }
+}
@@ -31,6 +31,8 @@ import java.lang.reflect.Type;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -87,6 +89,8 @@ public class RestClientProxyTest {
                         HeaderPropagator.class,
                         TestParamConverter.class,
                         TestParamConverterProvider.class,
+                        NumberParamConverterProvider.class,
+                        TypedParamConverterProvider.class,
                         NgHTTP2.class)
                 .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml");
     }
@@ -291,6 +295,37 @@ public class RestClientProxyTest {
         assertNull(client.nullQueryParam(null));
     }
 
+    @Test
+    public void testCollectionQueryParamWithConverter() throws Exception {
+        HelloClient client = RestClientBuilder.newBuilder()
+                .baseUri(generateUri())
+                .register(NumberParamConverterProvider.class)
+                .build(HelloClient.class);
+
+        assertEquals("n1,n2,n3", client.joinQueryParam(List.of(1, 2, 3)));
+    }
+
+    @Test
+    public void testEnumQueryParamWithConverter() throws Exception {
+        HelloClient client = RestClientBuilder.newBuilder()
+                .baseUri(generateUri())
+                .register(TypedParamConverterProvider.class)
+                .build(HelloClient.class);
+
+        assertEquals("level-high", client.enumQueryParam(HelloClient.Level.HIGH));
+        assertNull(client.enumQueryParam(null));
+    }
+
+    @Test
+    public void testUserTypePathParamWithConverter() throws Exception {
+        HelloClient client = RestClientBuilder.newBuilder()
+                .baseUri(generateUri())
+                .register(TypedParamConverterProvider.class)
+                .build(HelloClient.class);
+
+        assertEquals("name-duke", client.namePathParam(new HelloClient.Name("duke")));
+    }
+
     public static class TestParamConverter implements ParamConverter<String> {
 
         @Override
@@ -318,4 +353,65 @@ public class RestClientProxyTest {
             return null;
         }
     }
+
+    @Provider
+    public static class NumberParamConverterProvider implements ParamConverterProvider {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> ParamConverter<T> getConverter(final Class<T> rawType, final Type genericType,
+                final Annotation[] annotations) {
+            if (Objects.equals(rawType, Integer.class)) {
+                return (ParamConverter<T>) new ParamConverter<Integer>() {
+                    @Override
+                    public Integer fromString(final String value) {
+                        return Integer.valueOf(value.substring(1));
+                    }
+
+                    @Override
+                    public String toString(final Integer value) {
+                        return "n" + value;
+                    }
+                };
+            }
+            return null;
+        }
+    }
+
+    @Provider
+    public static class TypedParamConverterProvider implements ParamConverterProvider {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> ParamConverter<T> getConverter(final Class<T> rawType, final Type genericType,
+                final Annotation[] annotations) {
+            if (Objects.equals(rawType, HelloClient.Level.class)) {
+                return (ParamConverter<T>) new ParamConverter<HelloClient.Level>() {
+                    @Override
+                    public HelloClient.Level fromString(final String value) {
+                        return HelloClient.Level.valueOf(value.substring(6).toUpperCase(Locale.ROOT));
+                    }
+
+                    @Override
+                    public String toString(final HelloClient.Level value) {
+                        return "level-" + value.name().toLowerCase(Locale.ROOT);
+                    }
+                };
+            }
+            if (Objects.equals(rawType, HelloClient.Name.class)) {
+                return (ParamConverter<T>) new ParamConverter<HelloClient.Name>() {
+                    @Override
+                    public HelloClient.Name fromString(final String value) {
+                        return new HelloClient.Name(value.substring(5));
+                    }
+
+                    @Override
+                    public String toString(final HelloClient.Name value) {
+                        return "name-" + value.getValue();
+                    }
+                };
+            }
+            return null;
+        }
+    }
 }
@@ -19,6 +19,7 @@
 
 package org.jboss.resteasy.microprofile.test.client.integration.resource;
 
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 
 import jakarta.ws.rs.GET;
@@ -49,6 +50,18 @@ public interface HelloClient {
     @Path("/null-query-param/")
     String nullQueryParam(@QueryParam("value") String value);
 
+    @GET
+    @Path("/join-query-param/")
+    String joinQueryParam(@QueryParam("value") List<Integer> values);
+
+    @GET
+    @Path("/null-query-param/")
+    String enumQueryParam(@QueryParam("value") Level value);
+
+    @GET
+    @Path("/null-path-param/{value}")
+    String namePathParam(@PathParam("value") Name value);
+
     @GET
     @Path("some/{id}")
     CompletionStage<String> some(@PathParam("id") String id);
@@ -84,4 +97,21 @@ public interface HelloClient {
     @GET
     @Path("async-client-404-target")
     CompletionStage<String> asyncClient404Target();
+
+    enum Level {
+        LOW,
+        HIGH
+    }
+
+    final class Name {
+        private final String value;
+
+        public Name(final String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
 }
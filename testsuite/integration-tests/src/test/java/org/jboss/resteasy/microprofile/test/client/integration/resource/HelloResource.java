@@ -19,6 +19,7 @@
 
 package org.jboss.resteasy.microprofile.test.client.integration.resource;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
@@ -60,6 +61,12 @@ public class HelloResource {
         return value;
     }
 
+    @GET
+    @Path("/join-query-param/")
+    public String joinQueryParam(@QueryParam("value") List<String> values) {
+        return String.join(",", values);
+    }
+
     @GET
     @Path("/some/{id}")
     public CompletionStage<String> single(@PathParam("id") String id) {
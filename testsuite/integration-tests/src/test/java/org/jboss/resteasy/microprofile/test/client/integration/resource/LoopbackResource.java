@@ -0,0 +1,56 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2021 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.resteasy.microprofile.test.client.integration.resource;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.UriInfo;
+
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.jboss.resteasy.core.ResteasyContext;
+import org.jboss.resteasy.microprofile.client.RestClientBuilderImpl;
+import org.jboss.resteasy.mock.MockHttpRequest;
+import org.jboss.resteasy.spi.HttpRequest;
+
+@Path("/loopback")
+public class LoopbackResource {
+
+    @GET
+    @Produces("text/plain")
+    @Path("/target")
+    public String target() {
+        // A request dispatched by the loopback engine does not pass through the servlet container
+        return String.valueOf(ResteasyContext.getContextData(HttpRequest.class) instanceof MockHttpRequest);
+    }
+
+    @GET
+    @Produces("text/plain")
+    @Path("/invoke")
+    public String invoke(@Context final UriInfo uriInfo) {
+        final LoopbackClient client = RestClientBuilder.newBuilder()
+                .baseUri(uriInfo.getBaseUri())
+                .property(RestClientBuilderImpl.ENGINE, "loopback")
+                .build(LoopbackClient.class);
+        final String result = client.target();
+        // The context of this request must have been restored
+        return result + " " + ResteasyContext.getContextData(UriInfo.class).getPath();
+    }
+}